@@ -0,0 +1,162 @@
+package tictactoe;
+
+import javax.swing.*;
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One Swing timer that drives every animation in the app. Each frame, the running
+ * animations whose owner is on screen advance together; those on hidden screens are
+ * paused, and their clocks resume where they left off. The timer only runs while some
+ * animation can advance, and only as often as the fastest of them asks for, so an idle
+ * window costs no ticks at all. Everything here happens on the EDT.
+ */
+public class AnimationClock {
+
+    public static final int FRAME_MS = 16;
+
+    /**
+     * One step of an animation, given the milliseconds it has run on screen so far.
+     * @return false once the animation is finished
+     */
+    public interface Animation {
+        boolean tick(long elapsedMs);
+    }
+
+    private static class Entry {
+        final JComponent owner;
+        final Animation animation;
+        final int frameMs;
+        final long start;
+        long due;
+        // Time on screen up to resumed; while hidden, resumed is meaningless
+        long activeNanos;
+        long resumed;
+
+        Entry(JComponent owner, int frameMs, Animation animation, long start) {
+            this.owner = owner;
+            this.frameMs = frameMs;
+            this.animation = animation;
+            this.start = start;
+            this.due = start;
+            this.resumed = start;
+        }
+    }
+
+    private static final List<Entry> ENTRIES = new ArrayList<>();
+    // Reused by every tick, so stepping allocates nothing
+    private static final List<Entry> STEPPING = new ArrayList<>();
+    private static final Timer TIMER = new Timer(FRAME_MS, e -> tick());
+
+    // Pauses an owner's animations while it is hidden and restarts the clock when it returns
+    private static final HierarchyListener SHOWING = e -> {
+        if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) return;
+        Component owner = e.getComponent();
+        boolean showing = owner.isShowing();
+        long now = System.nanoTime();
+        for (int i = 0; i < ENTRIES.size(); i++) {
+            Entry entry = ENTRIES.get(i);
+            if (entry.owner != owner) continue;
+            if (showing) {
+                entry.resumed = now;
+            } else {
+                entry.activeNanos += now - entry.resumed;
+            }
+        }
+        if (showing) wake();
+    };
+
+    private AnimationClock() {
+    }
+
+    /**
+     * Runs an animation until it returns false or is stopped. It only advances while
+     * {@code owner} is showing; the first step comes on the next frame.
+     */
+    public static void start(JComponent owner, Animation animation) {
+        start(owner, FRAME_MS, animation);
+    }
+
+    /**
+     * As above, but stepped at most every {@code frameMs}; slow or endless effects use
+     * this so they don't keep the whole clock at full frame rate.
+     */
+    public static void start(JComponent owner, int frameMs, Animation animation) {
+        int delay = Math.max(FRAME_MS, frameMs);
+        ENTRIES.add(new Entry(owner, delay, animation, System.nanoTime()));
+        if (!hasListener(owner)) owner.addHierarchyListener(SHOWING);
+        if (!TIMER.isRunning()) {
+            TIMER.setInitialDelay(delay);
+            TIMER.setDelay(delay);
+        } else if (delay < TIMER.getDelay()) {
+            TIMER.setDelay(delay);
+        }
+        wake();
+    }
+
+    // Drops every animation owned by the component, without a final step
+    public static void stop(JComponent owner) {
+        ENTRIES.removeIf(entry -> entry.owner == owner);
+        owner.removeHierarchyListener(SHOWING);
+        if (ENTRIES.isEmpty()) TIMER.stop();
+    }
+
+    public static boolean isAnimating(JComponent owner) {
+        for (int i = 0; i < ENTRIES.size(); i++) {
+            if (ENTRIES.get(i).owner == owner) return true;
+        }
+        return false;
+    }
+
+    private static void wake() {
+        if (!TIMER.isRunning()) TIMER.start();
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        int delay = Integer.MAX_VALUE;
+        // A step may start or stop animations, so walk a copy
+        for (int i = 0; i < ENTRIES.size(); i++) {
+            STEPPING.add(ENTRIES.get(i));
+        }
+        for (int i = 0; i < STEPPING.size(); i++) {
+            Entry entry = STEPPING.get(i);
+            if (!entry.owner.isShowing() || !ENTRIES.contains(entry)) continue;
+            if (now - entry.due < 0) {
+                delay = Math.min(delay, entry.frameMs);
+                continue;
+            }
+            // Half a frame of slack so a step never slips a whole tick late
+            entry.due = now + (entry.frameMs - FRAME_MS / 2) * 1_000_000L;
+            entry.activeNanos += now - entry.resumed;
+            entry.resumed = now;
+            if (entry.animation.tick(entry.activeNanos / 1_000_000L)) {
+                delay = Math.min(delay, entry.frameMs);
+            } else {
+                ENTRIES.remove(entry);
+                if (!isAnimating(entry.owner)) entry.owner.removeHierarchyListener(SHOWING);
+            }
+        }
+        STEPPING.clear();
+        // Animations started during this tick have already set their own delay
+        for (int i = 0; i < ENTRIES.size(); i++) {
+            Entry entry = ENTRIES.get(i);
+            if (entry.owner.isShowing() && entry.due == entry.start) delay = Math.min(delay, entry.frameMs);
+        }
+        if (delay == Integer.MAX_VALUE) {
+            TIMER.stop();
+        } else {
+            TIMER.setDelay(delay);
+        }
+    }
+
+    private static boolean hasListener(JComponent owner) {
+        for (HierarchyListener listener : owner.getHierarchyListeners()) {
+            if (listener == SHOWING) return true;
+        }
+        return false;
+    }
+}
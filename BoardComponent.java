@@ -0,0 +1,270 @@
+package tictactoe;
+
+import tictactoe.logic.BitBoard;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * The playing grid as one component: cells and marks are painted directly, clicks are
+ * mapped to cells by arithmetic, and a change repaints only the cells it touches.
+ * X and O are rendered once per cell size and screen scale, then copied into place.
+ * Like the buttons it replaces, it takes keyboard focus: arrow keys move between cells
+ * and Space or Enter plays the focused one.
+ */
+public class BoardComponent extends JComponent {
+
+    private static final byte EMPTY = -1;
+
+    private final int size;
+    private final int cellSize;
+    private final int gap;
+    private final int borderWidth;
+    private final byte[] marks;
+    private int hoverIndex = -1;
+    private int pressedIndex = -1;
+    private int focusIndex = 0;
+    private IntConsumer cellListener;
+
+    private final Color cellColor;
+    private final Color hoverColor;
+    private final Color borderColor;
+    private final Color xColor;
+    private final Color oColor;
+
+    // Pre-rendered marks at the scale they were last painted with
+    private BufferedImage xGlyph;
+    private BufferedImage oGlyph;
+    private double glyphScale;
+
+    public BoardComponent(int size, int cellSize, Color cellColor, Color hoverColor, Color borderColor,
+                          Color xColor, Color oColor) {
+        this.size = size;
+        this.cellSize = cellSize;
+        // Large boards have little room for gaps and borders
+        this.gap = size > 6 ? 2 : 10;
+        this.borderWidth = size > 6 ? 1 : 2;
+        this.marks = new byte[size * size];
+        Arrays.fill(marks, EMPTY);
+        this.cellColor = cellColor;
+        this.hoverColor = hoverColor;
+        this.borderColor = borderColor;
+        this.xColor = xColor;
+        this.oColor = oColor;
+
+        Dimension pixels = new Dimension(boardPixelSize(), boardPixelSize());
+        setPreferredSize(pixels);
+        setMinimumSize(pixels);
+        setMaximumSize(pixels);
+        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        setFocusable(true);
+
+        // A press and release on the same cell plays it, even if the pointer moved in between
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e)) return;
+                pressedIndex = cellAt(e.getX(), e.getY());
+                requestFocusInWindow();
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int index = cellAt(e.getX(), e.getY());
+                boolean sameCell = index != -1 && index == pressedIndex;
+                pressedIndex = -1;
+                if (sameCell && SwingUtilities.isLeftMouseButton(e)) {
+                    setFocusIndex(index);
+                    activate(index);
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                setHover(cellAt(e.getX(), e.getY()));
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHover(-1);
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+
+        addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                int row = focusIndex / size;
+                int col = focusIndex % size;
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_LEFT:  col = Math.max(0, col - 1); break;
+                    case KeyEvent.VK_RIGHT: col = Math.min(size - 1, col + 1); break;
+                    case KeyEvent.VK_UP:    row = Math.max(0, row - 1); break;
+                    case KeyEvent.VK_DOWN:  row = Math.min(size - 1, row + 1); break;
+                    case KeyEvent.VK_SPACE:
+                    case KeyEvent.VK_ENTER:
+                        activate(focusIndex);
+                        return;
+                    default:
+                        return;
+                }
+                setFocusIndex(row * size + col);
+            }
+        });
+
+        // The focus outline only shows while the board has focus
+        addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusGained(FocusEvent e) {
+                repaintCell(focusIndex);
+            }
+
+            @Override
+            public void focusLost(FocusEvent e) {
+                repaintCell(focusIndex);
+            }
+        });
+    }
+
+    // Called on the EDT with the cell index of every click on the board
+    public void setCellListener(IntConsumer listener) {
+        this.cellListener = listener;
+    }
+
+    private void activate(int index) {
+        if (cellListener != null && isEnabled()) cellListener.accept(index);
+    }
+
+    private void setFocusIndex(int index) {
+        if (index == focusIndex) return;
+        int old = focusIndex;
+        focusIndex = index;
+        repaintCell(old);
+        repaintCell(index);
+    }
+
+    public boolean isEmpty(int index) {
+        return marks[index] == EMPTY;
+    }
+
+    /**
+     * Marks a cell for BitBoard.X or BitBoard.O and repaints just that cell.
+     */
+    public void setMark(int index, int player) {
+        marks[index] = (byte) player;
+        repaintCell(index);
+    }
+
+    public void clear() {
+        Arrays.fill(marks, EMPTY);
+        repaint();
+    }
+
+    /**
+     * Cell under a point, or -1 for the gaps between cells and anything outside the grid.
+     */
+    public int cellAt(int x, int y) {
+        int pitch = cellSize + gap;
+        if (x < 0 || y < 0) return -1;
+        int col = x / pitch;
+        int row = y / pitch;
+        if (col >= size || row >= size || x % pitch >= cellSize || y % pitch >= cellSize) return -1;
+        return row * size + col;
+    }
+
+    private int boardPixelSize() {
+        return cellSize * size + (size - 1) * gap;
+    }
+
+    private void setHover(int index) {
+        if (index == hoverIndex) return;
+        int old = hoverIndex;
+        hoverIndex = index;
+        if (old != -1) repaintCell(old);
+        if (index != -1) repaintCell(index);
+    }
+
+    private void repaintCell(int index) {
+        int pitch = cellSize + gap;
+        repaint((index % size) * pitch, (index / size) * pitch, cellSize, cellSize);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        prepareGlyphs(g2.getTransform());
+
+        // Only the rows and columns inside the dirty region
+        Rectangle clip = g2.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+        int pitch = cellSize + gap;
+        int firstCol = Math.max(0, clip.x / pitch);
+        int firstRow = Math.max(0, clip.y / pitch);
+        int lastCol = Math.min(size - 1, (clip.x + clip.width) / pitch);
+        int lastRow = Math.min(size - 1, (clip.y + clip.height) / pitch);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                int index = row * size + col;
+                int x = col * pitch;
+                int y = row * pitch;
+                byte mark = marks[index];
+
+                g2.setColor(mark == EMPTY && index == hoverIndex ? hoverColor : cellColor);
+                g2.fillRect(x, y, cellSize, cellSize);
+                g2.setColor(borderColor);
+                for (int b = 0; b < borderWidth; b++) {
+                    g2.drawRect(x + b, y + b, cellSize - 1 - 2 * b, cellSize - 1 - 2 * b);
+                }
+
+                if (mark != EMPTY) {
+                    g2.drawImage(mark == BitBoard.X ? xGlyph : oGlyph, x, y, cellSize, cellSize, null);
+                }
+                if (index == focusIndex && hasFocus()) {
+                    g2.setColor(xColor);
+                    g2.drawRect(x + borderWidth + 1, y + borderWidth + 1,
+                            cellSize - 3 - 2 * borderWidth, cellSize - 3 - 2 * borderWidth);
+                }
+            }
+        }
+    }
+
+    // Glyphs are drawn at device resolution so they stay sharp on scaled displays
+    private void prepareGlyphs(AffineTransform transform) {
+        double scale = Math.max(1.0, transform.getScaleX());
+        if (xGlyph != null && scale == glyphScale) return;
+        glyphScale = scale;
+        xGlyph = renderGlyph("X", xColor, scale);
+        oGlyph = renderGlyph("O", oColor, scale);
+    }
+
+    private BufferedImage renderGlyph(String symbol, Color color, double scale) {
+        int pixels = (int) Math.ceil(cellSize * scale);
+        BufferedImage image = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.scale(scale, scale);
+
+        int fontSize = size > 6 ? cellSize - 6 : cellSize - 20;
+        g2.setFont(new Font("Segoe UI", Font.BOLD, fontSize));
+        g2.setColor(color);
+        FontMetrics fm = g2.getFontMetrics();
+        int x = (cellSize - fm.stringWidth(symbol)) / 2;
+        int y = (cellSize - fm.getHeight()) / 2 + fm.getAscent();
+        g2.drawString(symbol, x, y);
+        g2.dispose();
+        return image;
+    }
+}
@@ -178,11 +178,34 @@ public class DbCon {
         }
     }
 
+    // =========================================================================
+    // 5. WARM UP (Open the connection before the first real request needs it)
+    // =========================================================================
+    public static void warmUp() {
+        try {
+            // Smallest possible query; the DNS lookup and TLS handshake are what we're after
+            String queryUrl = BASE_URL + "?select=player&limit=1";
+
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(queryUrl))
+                    .header("apikey", API_KEY)
+                    .header("Authorization", "Bearer " + API_KEY)
+                    .GET()
+                    .build();
+
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+
+        } catch (Exception e) {
+            System.err.println("Backend warm-up failed: " + e.getMessage());
+        }
+    }
+
     // =========================================================================
     // HELPER METHODS (JSON Parsing)
     // =========================================================================
+    // Package-private so DbConBenchmark can time them without a network round trip
 
-    private static int parseJsonInt(String json, String key) {
+    static int parseJsonInt(String json, String key) {
         try {
             String val = extractJsonValue(json, key);
             // Clean non-numeric chars just in case
@@ -191,7 +214,7 @@ public class DbCon {
         } catch (Exception e) { return -1; }
     }
 
-    private static Object[][] parseJsonArray(String json) {
+    static Object[][] parseJsonArray(String json) {
         if (json == null || !json.startsWith("[")) return new Object[0][0];
 
         // Remove outer brackets []
@@ -226,7 +249,7 @@ public class DbCon {
     }
 
     // Helper to extract value string from JSON key
-    private static String extractJsonValue(String json, String key) {
+    static String extractJsonValue(String json, String key) {
         String keySearch = "\"" + key + "\":";
         int start = json.indexOf(keySearch);
         if (start == -1) return "";
@@ -2,19 +2,21 @@ package tictactoe;
 
 import tictactoe.logic.GameLogic;
 import tictactoe.logic.BotAI;
+import tictactoe.logic.BitBoard;
+import tictactoe.logic.BotMove;
+import tictactoe.logic.SearchStats;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.util.Objects;
 import java.util.Properties;
-import javax.imageio.ImageIO;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class GameBoard extends JPanel {
+public class GameBoard extends Screen {
 
     // UI Components
-    private JButton[] cells;
+    private BoardComponent board;
     private GameLogic logic;
 
     private JLabel timerLabel;
@@ -38,6 +40,29 @@ public class GameBoard extends JPanel {
 
     private int boardSize;
 
+    // Bot moves are searched on one shared background thread so the EDT never blocks;
+    // reusing the thread also reuses BotAI's per-thread search state between games
+    private static final ExecutorService BOT_THREAD = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "bot-search");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    // A result is only applied if its generation is still current when it arrives
+    private int botGeneration = 0;
+    private AtomicBoolean botStopFlag;
+    private boolean botThinking = false;
+    private int thinkingDots = 0;
+
+    // Pondering: the bot searches on the same thread while the player decides
+    private boolean ponderEnabled;
+    private AtomicBoolean ponderStopFlag;
+
+    // Debug overlay: how the bot found its last move
+    private boolean showSearchStats;
+    private JLabel searchStatsLabel;
+
     // Blue-Black Theme Colors
     private final Color BG_COLOR = new Color(18, 18, 24);
     private final Color CARD_BG = new Color(30, 30, 40);
@@ -61,8 +86,11 @@ public class GameBoard extends JPanel {
         this.player2Name = mode.equals("Bot") ? "Bot" : player2;
         this.boardSize = boardSize;
 
-        this.cells = new JButton[boardSize * boardSize];
-        this.logic = new GameLogic(boardSize);
+        // -Dtictactoe.seed=<seed from the log> replays that game's bot moves
+        Long replaySeed = Long.getLong("tictactoe.seed");
+        this.logic = replaySeed != null ? new GameLogic(boardSize, replaySeed) : new GameLogic(boardSize);
+
+        loadBotSettings();
 
         setLayout(new BorderLayout());
         setBackground(BG_COLOR);
@@ -71,9 +99,50 @@ public class GameBoard extends JPanel {
         add(createBoardPanel(), BorderLayout.CENTER);
         add(createBottomPanel(manager), BorderLayout.SOUTH);
 
+        System.out.println("Started Game: " + mode + " (" + difficulty + ") - Board: " + boardSize + "x" + boardSize
+                + ", " + logic.getWinLength() + " in a row, seed " + logic.getSeed());
+    }
+
+    /* ---------------------- SCREEN LIFECYCLE ---------------------- */
+
+    @Override
+    protected void onShow() {
         initializeMusic();
+    }
+
+    @Override
+    protected void onHide() {
+        cancelBotMove();
+        if (musicPlayer != null) {
+            musicPlayer.stopMusic();
+        }
+    }
+
+    // Coming back to the same matchup starts a new match with the current settings
+    @Override
+    protected void reset() {
+        loadBotSettings();
+        resetBoard();
+        player1Wins = 0;
+        player2Wins = 0;
+        player1WinsLabel.setText(player1Name + ": 0");
+        player2WinsLabel.setText(player2Name + ": 0");
+        searchStatsLabel.setText(" ");
+        searchStatsLabel.setVisible(showSearchStats && "Bot".equals(gameMode));
+    }
+
+    @Override
+    protected void dispose() {
+        cancelBotMove();
+        AnimationClock.stop(turnLabel);
+    }
 
-        System.out.println("Started Game: " + mode + " (" + difficulty + ") - Board: " + boardSize + "x" + boardSize);
+    private void loadBotSettings() {
+        Properties settings = SettingsScreen.getSettings();
+        BotAI.setTimeBudgetMs(SettingsScreen.getBotThinkTimeMs(settings));
+        BotAI.setThreads(SettingsScreen.getBotThreads(settings));
+        ponderEnabled = SettingsScreen.isPonderEnabled(settings);
+        showSearchStats = SettingsScreen.isSearchStatsEnabled(settings);
     }
 
     /* ---------------------- TOP PANEL ---------------------- */
@@ -109,34 +178,29 @@ public class GameBoard extends JPanel {
         statsPanel.setBackground(BG_COLOR);
 
         // Use your image icons
-        timerLabel = addStat(statsPanel, "src/tictactoe/img/timer.png", "0");
-        player1WinsLabel = addStat(statsPanel, "src/tictactoe/img/profile.png", player1Name + ": 0");
+        timerLabel = addStat(statsPanel, "timer.png", "0");
+        player1WinsLabel = addStat(statsPanel, "profile.png", player1Name + ": 0");
 
-        String icon2 = gameMode.equals("Bot") ? "src/tictactoe/img/bot.png" : "src/tictactoe/img/profile.png";
+        String icon2 = gameMode.equals("Bot") ? "bot.png" : "profile.png";
         player2WinsLabel = addStat(statsPanel, icon2, player2Name + ": 0");
 
         topPanel.add(statsPanel);
-        return topPanel;
-    }
 
-    private ImageIcon loadScaledIcon(String path, int width, int height) {
-        try {
-            Image img = ImageIO.read(
-                    Objects.requireNonNull(getClass().getResource("/" + path))
-            );
-            Image scaled = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaled);
-        } catch (Exception e) {
-            System.err.println("Icon load failed: " + path);
-            return new ImageIcon();
-        }
+        searchStatsLabel = new JLabel(" ");
+        searchStatsLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        searchStatsLabel.setForeground(TEXT_SECONDARY);
+        searchStatsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        searchStatsLabel.setBorder(BorderFactory.createEmptyBorder(8, 0, 0, 0));
+        searchStatsLabel.setVisible(showSearchStats && "Bot".equals(gameMode));
+        topPanel.add(searchStatsLabel);
+        return topPanel;
     }
 
     private JButton createMusicToggleButton() {
         int btnSize = 60;
 
-        ImageIcon musicIcon = loadScaledIcon("tictactoe/img/music.png", btnSize, btnSize);
-        ImageIcon muteIcon  = loadScaledIcon("tictactoe/img/mute.png", btnSize, btnSize);
+        ImageIcon musicIcon = ImageCache.getIcon("music.png", btnSize, btnSize);
+        ImageIcon muteIcon  = ImageCache.getIcon("mute.png", btnSize, btnSize);
 
         musicToggleBtn = new JButton(musicIcon);
         musicToggleBtn.setPreferredSize(new Dimension(btnSize, btnSize));
@@ -158,12 +222,12 @@ public class GameBoard extends JPanel {
         return musicToggleBtn;
     }
 
-    private JLabel addStat(JPanel panel, String iconPath, String value) {
+    private JLabel addStat(JPanel panel, String iconName, String value) {
         JPanel statPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
         statPanel.setBackground(BG_COLOR);
 
         JLabel iconLabel = new JLabel();
-        iconLabel.setIcon(loadIcon(iconPath, 24, 24));
+        iconLabel.setIcon(ImageCache.getIcon(iconName, 24, 24));
 
         JLabel valueLabel = new JLabel(value);
         valueLabel.setFont(new Font("Segoe UI", Font.BOLD, 16));
@@ -181,24 +245,11 @@ public class GameBoard extends JPanel {
         JPanel wrapper = new JPanel(new GridBagLayout());
         wrapper.setBackground(BG_COLOR);
 
-        int cellSize = calculateCellSize();
-        int boardPixelSize = cellSize * boardSize + (boardSize - 1) * 10;
-
-        JPanel boardPanel = new JPanel(new GridLayout(boardSize, boardSize, 10, 10));
-        boardPanel.setBackground(BG_COLOR);
-        boardPanel.setPreferredSize(new Dimension(boardPixelSize, boardPixelSize));
-        boardPanel.setMinimumSize(new Dimension(boardPixelSize, boardPixelSize));
-        boardPanel.setMaximumSize(new Dimension(boardPixelSize, boardPixelSize));
-
-        for (int i = 0; i < boardSize * boardSize; i++) {
-            JButton btn = createBoardCell(cellSize);
-            int index = i;
-            btn.addActionListener(e -> handlePlayerMove(index));
-            cells[index] = btn;
-            boardPanel.add(btn);
-        }
+        board = new BoardComponent(boardSize, calculateCellSize(), CELL_BG, CELL_HOVER, BORDER_COLOR,
+                X_COLOR, O_COLOR);
+        board.setCellListener(this::handlePlayerMove);
 
-        wrapper.add(boardPanel);
+        wrapper.add(board);
         return wrapper;
     }
 
@@ -208,30 +259,12 @@ public class GameBoard extends JPanel {
             case 4: return 90;
             case 5: return 70;
             case 6: return 60;
+            case 15: return 26;
+            case 19: return 21;
             default: return 100;
         }
     }
 
-    private JButton createBoardCell(int cellSize) {
-        JButton btn = new JButton("");
-        int fontSize = cellSize - 20;
-        btn.setFont(new Font("Segoe UI", Font.BOLD, fontSize));
-        btn.setBackground(CELL_BG);
-        btn.setBorder(BorderFactory.createLineBorder(BORDER_COLOR, 2));
-        btn.setFocusPainted(false);
-        btn.setCursor(new Cursor(Cursor.HAND_CURSOR));
-
-        btn.addMouseListener(new java.awt.event.MouseAdapter() {
-            public void mouseEntered(java.awt.event.MouseEvent evt) {
-                if (btn.getText().isEmpty()) btn.setBackground(CELL_HOVER);
-            }
-            public void mouseExited(java.awt.event.MouseEvent evt) {
-                if (btn.getText().isEmpty()) btn.setBackground(CELL_BG);
-            }
-        });
-        return btn;
-    }
-
     /* ---------------------------- BOTTOM PANEL ------------------------------ */
 
     private JPanel createBottomPanel(ScreenManager manager) {
@@ -268,7 +301,7 @@ public class GameBoard extends JPanel {
             boolean musicEnabled = Boolean.parseBoolean(settings.getProperty("musicEnabled", "true"));
 
             if (musicEnabled) {
-                musicPlayer.playMusic("src/tictactoe/audio/background1.wav");
+                musicPlayer.playMusic(MusicPlayer.BACKGROUND_TRACK);
 
                 musicToggleBtn.setEnabled(true);
                 musicToggleBtn.setText("🔊");
@@ -285,29 +318,16 @@ public class GameBoard extends JPanel {
         }
     }
 
-    private ImageIcon loadIcon(String path, int width, int height) {
-        try {
-            BufferedImage img = ImageIO.read(new File(path));
-            return new ImageIcon(img.getScaledInstance(width, height, Image.SCALE_SMOOTH));
-        } catch (Exception e) {
-            System.err.println("Could not load icon: " + path);
-            // Create a simple colored circle as fallback
-            BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2 = img.createGraphics();
-            g2.setColor(TEXT_SECONDARY);
-            g2.fillOval(0, 0, width, height);
-            g2.dispose();
-            return new ImageIcon(img);
-        }
-    }
-
     /* ------------------------------ GAME LOGIC ------------------------------ */
 
     private void handlePlayerMove(int index) {
-        if (!cells[index].getText().isEmpty()) return;
+        if (botThinking) return;
+        if (!board.isEmpty(index)) return;
 
         String currentPlayer = logic.isXTurn() ? player1Name : player2Name;
 
+        // The real move is in; the queued bot search runs as soon as the ponder notices
+        stopPondering();
         performMove(index);
 
         if (checkGameOver(currentPlayer)) return;
@@ -317,37 +337,108 @@ public class GameBoard extends JPanel {
         turnLabel.setText(nextPlayer + "'s Turn (" + nextSymbol + ")");
 
         if ("Bot".equals(gameMode) && !logic.isXTurn()) {
-            SwingUtilities.invokeLater(() -> handleBotMove());
+            startBotMove();
+        }
+    }
+
+    private void startBotMove() {
+        // 1. Snapshot the position on the EDT; the worker never touches the live board
+        BitBoard position = new BitBoard(boardSize, logic.getWinLength());
+        position.copyFrom(logic.getBoard());
+        int side = logic.getSideToMove();
+        long seed = logic.getSeed();
+
+        int generation = ++botGeneration;
+        AtomicBoolean stopFlag = new AtomicBoolean(false);
+        botStopFlag = stopFlag;
+        showThinking(true);
+
+        // 2. Search in the background, then hand the result back to the EDT
+        BOT_THREAD.execute(() -> {
+            BotAI.setGameSeed(seed);
+            BotMove botMove = BotAI.findMove(difficulty, position, side, stopFlag);
+            SwingUtilities.invokeLater(() -> {
+                if (generation != botGeneration || stopFlag.get()) return; // cancelled meanwhile
+                showThinking(false);
+                showSearchStats(botMove.getStats());
+                handleBotMove(botMove.getCell());
+            });
+        });
+    }
+
+    // Cooperative: the search notices the flag at its next clock check
+    private void cancelBotMove() {
+        botGeneration++;
+        if (botStopFlag != null) {
+            botStopFlag.set(true);
+            botStopFlag = null;
         }
+        stopPondering();
+        showThinking(false);
     }
 
-    private void handleBotMove() {
-        // 1. Create a clean String representation of the board for the AI
-        String[] boardData = new String[cells.length];
-        for (int i = 0; i < cells.length; i++) {
-            boardData[i] = cells[i].getText();
+    private void startPondering() {
+        if (!ponderEnabled || !"Bot".equals(gameMode)) return;
+        if (!"Hard".equals(difficulty) && !"Master".equals(difficulty)) return;
+
+        BitBoard position = new BitBoard(boardSize, logic.getWinLength());
+        position.copyFrom(logic.getBoard());
+        int botSide = 1 - logic.getSideToMove();
+
+        AtomicBoolean stopFlag = new AtomicBoolean(false);
+        ponderStopFlag = stopFlag;
+        BOT_THREAD.execute(() -> BotAI.ponder(difficulty, position, botSide, stopFlag));
+    }
+
+    private void stopPondering() {
+        if (ponderStopFlag != null) {
+            ponderStopFlag.set(true);
+            ponderStopFlag = null;
+        }
+    }
+
+    private void showThinking(boolean thinking) {
+        botThinking = thinking;
+        if (thinking) {
+            thinkingDots = 0;
+            turnLabel.setText(player2Name + " is thinking");
+            AnimationClock.stop(turnLabel);
+            // One more dot every 400 ms; the label only changes when the count does
+            AnimationClock.start(turnLabel, 100, elapsed -> {
+                int dots = (int) (elapsed / 400 % 4);
+                if (dots != thinkingDots) {
+                    thinkingDots = dots;
+                    turnLabel.setText(player2Name + " is thinking" + ".".repeat(dots));
+                }
+                return true;
+            });
+        } else {
+            AnimationClock.stop(turnLabel);
         }
+    }
 
-        // 2. Ask BotAI for the move
-        int botIndex = BotAI.getMove(difficulty, boardData, boardSize, spotsTaken);
+    private void showSearchStats(SearchStats stats) {
+        if (!showSearchStats) return;
+        searchStatsLabel.setText(stats.toString());
+        System.out.println("[Bot] " + stats);
+    }
 
+    private void handleBotMove(int botIndex) {
         // 3. Apply the move
         if (botIndex != -1) {
             performMove(botIndex);
-            checkGameOver(player2Name);
+            if (checkGameOver(player2Name)) return;
 
             String nextSymbol = logic.isXTurn() ? "X" : "O";
             turnLabel.setText(player1Name + "'s Turn (" + nextSymbol + ")");
+            startPondering();
         }
     }
 
     private void performMove(int index) {
         if (!logic.makeMove(index)) return;
 
-        String symbol = logic.isXTurn() ? "O" : "X";
-
-        cells[index].setText(symbol);
-        cells[index].setForeground(symbol.equals("X") ? X_COLOR : O_COLOR);
+        board.setMark(index, logic.isXTurn() ? BitBoard.O : BitBoard.X);
         timerLabel.setText(String.valueOf(++spotsTaken));
 
         logic.switchTurn();
@@ -402,15 +493,14 @@ public class GameBoard extends JPanel {
     }
 
     private void resetBoard() {
+        cancelBotMove();
         logic.reset();
+        System.out.println("New game, seed " + logic.getSeed());
         spotsTaken = 0;
         timerLabel.setText("0");
 
         turnLabel.setText(player1Name + "'s Turn (X)");
 
-        for (JButton btn : cells) {
-            btn.setText("");
-            btn.setBackground(CELL_BG);
-        }
+        board.clear();
     }
 }
\ No newline at end of file
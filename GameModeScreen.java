@@ -4,7 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.Properties;
 
-public class GameModeScreen extends JPanel {
+public class GameModeScreen extends Screen {
 
     private String selectedMode = "PvP";
     private String selectedDifficulty = "Easy";
@@ -13,7 +13,7 @@ public class GameModeScreen extends JPanel {
     private int boardSize = 3;
 
     private JButton pvpBtn, botBtn;
-    private JButton easyBtn, medBtn, hardBtn;
+    private JButton easyBtn, medBtn, hardBtn, masterBtn;
     private JPanel difficultyPanel;
     private JPanel pvpInputPanel;
     private JTextField player2Field;
@@ -314,21 +314,24 @@ public class GameModeScreen extends JPanel {
         title.setForeground(TEXT_SECONDARY);
         title.setAlignmentX(Component.CENTER_ALIGNMENT);
 
-        JPanel buttonPanel = new JPanel(new GridLayout(1, 3, 10, 0));
+        JPanel buttonPanel = new JPanel(new GridLayout(1, 4, 10, 0));
         buttonPanel.setBackground(BG_COLOR);
         buttonPanel.setMaximumSize(new Dimension(500, 60));
 
         easyBtn = createDifficultyToggleButton("EASY");
         medBtn = createDifficultyToggleButton("MEDIUM");
         hardBtn = createDifficultyToggleButton("HARD");
+        masterBtn = createDifficultyToggleButton("MASTER");
 
         easyBtn.addActionListener(e -> setDifficulty("Easy"));
         medBtn.addActionListener(e -> setDifficulty("Medium"));
         hardBtn.addActionListener(e -> setDifficulty("Hard"));
+        masterBtn.addActionListener(e -> setDifficulty("Master"));
 
         buttonPanel.add(easyBtn);
         buttonPanel.add(medBtn);
         buttonPanel.add(hardBtn);
+        buttonPanel.add(masterBtn);
 
         // Difficulty description
         JPanel descPanel = new JPanel();
@@ -540,6 +543,7 @@ public class GameModeScreen extends JPanel {
             case "Easy": return "Beginner Friendly";
             case "Medium": return "Balanced Challenge";
             case "Hard": return "Expert Level";
+            case "Master": return "Master Level";
             default: return "";
         }
     }
@@ -549,6 +553,7 @@ public class GameModeScreen extends JPanel {
             case "Easy": return "AI makes occasional strategic moves";
             case "Medium": return "AI uses basic game theory and strategies";
             case "Hard": return "AI employs advanced algorithms and prediction";
+            case "Master": return "AI plays out thousands of games before every move";
             default: return "";
         }
     }
@@ -575,6 +580,7 @@ public class GameModeScreen extends JPanel {
         easyBtn.repaint();
         medBtn.repaint();
         hardBtn.repaint();
+        masterBtn.repaint();
 
         // Update difficulty panel description
         if (difficultyPanel.isVisible()) {
@@ -653,6 +659,16 @@ public class GameModeScreen extends JPanel {
         }
     }
 
+    // Same choices as a new screen: the saved defaults and board size, no player 2
+    @Override
+    protected void reset() {
+        loadSettingsFromFile();
+        player2Username = "";
+        player2Field.setText("");
+        setMode(selectedMode);
+        setDifficulty(selectedDifficulty);
+    }
+
     private void showValidationMessage(String message, Color color) {
         validationLabel.setText(message);
         validationLabel.setForeground(color);
@@ -664,8 +680,7 @@ public class GameModeScreen extends JPanel {
             String savedMode = settings.getProperty("gameMode", "Singleplayer (vs Bot)");
             selectedMode = savedMode.contains("Multiplayer") ? "PvP" : "Bot";
             selectedDifficulty = settings.getProperty("difficulty", "Easy");
-            String boardSizeStr = settings.getProperty("boardSize", "3x3 (Default)");
-            boardSize = Integer.parseInt(boardSizeStr.substring(0, 1));
+            boardSize = SettingsScreen.getBoardSize(settings);
         } catch (Exception e) {
             selectedMode = "PvP";
             selectedDifficulty = "Easy";
@@ -0,0 +1,163 @@
+package tictactoe;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BaseMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of the images in tictactoe/img, decoded once and kept pre-scaled
+ * for every size asked for. Screens share the icons, so building a screen again does no
+ * image I/O. On scaled displays each icon also carries a variant at device resolution.
+ * Least recently used entries are dropped once the cache passes its memory limit.
+ */
+public class ImageCache {
+
+    private static final String RESOURCE_DIR = "/tictactoe/img/";
+    private static final String FILE_DIR = "src/tictactoe/img/";
+    private static final long MAX_BYTES = 16L * 1024 * 1024;
+    private static final Color FALLBACK_COLOR = new Color(180, 180, 200);
+
+    private static class Entry {
+        final Object value;
+        final long bytes;
+
+        Entry(Object value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    // Decoded originals under "name", scaled icons under "name@WxH"
+    private static final LinkedHashMap<String, Entry> CACHE = new LinkedHashMap<>(32, 0.75f, true);
+    private static long cachedBytes;
+
+    private static double displayScale = -1;
+
+    private ImageCache() {
+    }
+
+    /**
+     * The named image scaled to width x height logical pixels. A missing or unreadable
+     * image gives a plain circle of the same size instead.
+     * @param name file name inside tictactoe/img, e.g. "music.png"
+     */
+    public static synchronized ImageIcon getIcon(String name, int width, int height) {
+        String key = name + "@" + width + "x" + height;
+        Entry entry = CACHE.get(key);
+        if (entry != null) return (ImageIcon) entry.value;
+
+        BufferedImage source = getSource(name);
+        double scale = getDisplayScale();
+        Image image;
+        long bytes;
+        if (source == null) {
+            image = fallback(width, height);
+            bytes = 4L * width * height;
+        } else if (scale > 1) {
+            int hiWidth = (int) Math.ceil(width * scale);
+            int hiHeight = (int) Math.ceil(height * scale);
+            image = new BaseMultiResolutionImage(scale(source, width, height), scale(source, hiWidth, hiHeight));
+            bytes = 4L * (width * height + hiWidth * hiHeight);
+        } else {
+            image = scale(source, width, height);
+            bytes = 4L * width * height;
+        }
+        ImageIcon icon = new ImageIcon(image);
+        put(key, new Entry(icon, bytes));
+        return icon;
+    }
+
+    // Original pixels, read once from the classpath or else the source tree
+    private static BufferedImage getSource(String name) {
+        Entry entry = CACHE.get(name);
+        if (entry != null) return (BufferedImage) entry.value;
+
+        BufferedImage image = read(name);
+        if (image == null) {
+            System.err.println("Could not load icon: " + name);
+            return null;
+        }
+        put(name, new Entry(image, 4L * image.getWidth() * image.getHeight()));
+        return image;
+    }
+
+    private static BufferedImage read(String name) {
+        try (InputStream in = ImageCache.class.getResourceAsStream(RESOURCE_DIR + name)) {
+            if (in != null) return ImageIO.read(in);
+        } catch (Exception e) {
+            // Fall through to the file system
+        }
+        try {
+            File file = new File(FILE_DIR + name);
+            return file.isFile() ? ImageIO.read(file) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void put(String key, Entry entry) {
+        Entry old = CACHE.put(key, entry);
+        if (old != null) cachedBytes -= old.bytes;
+        cachedBytes += entry.bytes;
+
+        Iterator<Map.Entry<String, Entry>> eldest = CACHE.entrySet().iterator();
+        while (cachedBytes > MAX_BYTES && CACHE.size() > 1) {
+            Map.Entry<String, Entry> e = eldest.next();
+            if (e.getKey().equals(key)) continue;
+            cachedBytes -= e.getValue().bytes;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Bilinear steps of at most half the size at a time: close to SCALE_SMOOTH quality,
+     * at a fraction of getScaledInstance's cost.
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = w / 2 >= width ? w / 2 : width;
+            h = h / 2 >= height ? h / 2 : height;
+            BufferedImage step = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = step.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(current, 0, 0, w, h, null);
+            g2.dispose();
+            current = step;
+        } while (w != width || h != height);
+        return current;
+    }
+
+    private static BufferedImage fallback(int width, int height) {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(FALLBACK_COLOR);
+        g2.fillOval(0, 0, width, height);
+        g2.dispose();
+        return img;
+    }
+
+    // Pixels per logical pixel on the main screen, 1 when headless
+    private static double getDisplayScale() {
+        if (displayScale < 0) {
+            displayScale = 1;
+            if (!GraphicsEnvironment.isHeadless()) {
+                displayScale = Math.max(1, GraphicsEnvironment.getLocalGraphicsEnvironment()
+                        .getDefaultScreenDevice().getDefaultConfiguration()
+                        .getDefaultTransform().getScaleX());
+            }
+        }
+        return displayScale;
+    }
+}
@@ -5,7 +5,7 @@ import java.awt.*;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 
-public class LoginScreen extends JPanel {
+public class LoginScreen extends Screen {
 
     // Dark Theme Color Palette
     private final Color BG_COLOR = new Color(18, 18, 24);
@@ -17,6 +17,13 @@ public class LoginScreen extends JPanel {
     private final Color BORDER_COLOR = new Color(50, 50, 60);
     private final Color ERROR_COLOR = new Color(255, 80, 80);
 
+    private static final String LOGIN_TEXT = "ENTER ARENA";
+    private static final int SHAKE_MS = 240;
+
+    private JTextField nameField;
+    private JButton loginBtn;
+    private int pulseAlpha = 30;
+
     public LoginScreen(ScreenManager manager) {
         setLayout(new BorderLayout());
         setBackground(BG_COLOR);
@@ -157,7 +164,7 @@ public class LoginScreen extends JPanel {
         inputPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
         // Text field with custom styling
-        JTextField nameField = new JTextField() {
+        nameField = new JTextField() {
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2d = (Graphics2D) g.create();
@@ -217,23 +224,12 @@ public class LoginScreen extends JPanel {
         loginCard.add(inputPanel);
 
         // Login button with animation
-        JButton loginBtn = new JButton("ENTER ARENA") {
-            private float pulse = 0;
-            private boolean pulsing = true;
-
+        loginBtn = new JButton(LOGIN_TEXT) {
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2d = (Graphics2D) g.create();
                 g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-                // Pulsing animation
-                if (pulsing && isEnabled()) {
-                    pulse += 0.05f;
-                    if (pulse > 1) pulse = 0;
-                }
-
-                int alpha = (int)(30 + 20 * Math.sin(pulse * Math.PI));
-
                 // Draw button background
                 if (getModel().isPressed()) {
                     g2d.setColor(ACCENT_COLOR.darker());
@@ -245,8 +241,8 @@ public class LoginScreen extends JPanel {
                 g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 25, 25);
 
                 // Draw pulse effect
-                if (isEnabled() && pulsing) {
-                    g2d.setColor(new Color(0, 150, 255, alpha));
+                if (isEnabled()) {
+                    g2d.setColor(new Color(0, 150, 255, pulseAlpha));
                     g2d.setStroke(new BasicStroke(3));
                     g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 25, 25);
                 }
@@ -273,14 +269,8 @@ public class LoginScreen extends JPanel {
                 g2d.drawString(text, x, y);
 
                 g2d.dispose();
-
-                // Continue animation
-                if (isEnabled() && pulsing) {
-                    repaint(50);
-                }
             }
         };
-
         loginBtn.setContentAreaFilled(false);
         loginBtn.setBorderPainted(false);
         loginBtn.setFocusPainted(false);
@@ -294,22 +284,18 @@ public class LoginScreen extends JPanel {
 
             if (rawName.isEmpty()) {
                 // Shake animation for empty field
-                Timer shakeTimer = new Timer(20, null);
-                final int[] offset = {0};
-                final int[] direction = {1};
-                shakeTimer.addActionListener(ev -> {
-                    offset[0] += 5 * direction[0];
-                    if (Math.abs(offset[0]) >= 15) {
-                        direction[0] *= -1;
-                    }
-                    if (offset[0] == 0) {
-                        shakeTimer.stop();
-                        nameField.setLocation(nameField.getX() - offset[0], nameField.getY());
-                    } else {
-                        nameField.setLocation(nameField.getX() + 5 * direction[0], nameField.getY());
-                    }
-                });
-                shakeTimer.start();
+                if (!AnimationClock.isAnimating(nameField)) {
+                    int baseX = nameField.getX();
+                    AnimationClock.start(nameField, elapsed -> {
+                        if (elapsed >= SHAKE_MS) {
+                            nameField.setLocation(baseX, nameField.getY());
+                            return false;
+                        }
+                        int offset = (int) Math.round(15 * Math.sin(2 * Math.PI * elapsed / SHAKE_MS));
+                        nameField.setLocation(baseX + offset, nameField.getY());
+                        return true;
+                    });
+                }
 
                 // Show error message
                 JOptionPane.showMessageDialog(this,
@@ -375,11 +361,48 @@ public class LoginScreen extends JPanel {
 
         mainPanel.add(loginCard);
         add(mainPanel, BorderLayout.CENTER);
+    }
 
+    @Override
+    protected void onShow() {
+        // 20 frames a second is plenty for a glow that only has 20 shades
+        if (!AnimationClock.isAnimating(loginBtn)) AnimationClock.start(loginBtn, 50, this::pulse);
         // Set focus to text field
         SwingUtilities.invokeLater(() -> nameField.requestFocusInWindow());
     }
 
+    // The pulse never ends on its own; a cut-off shake is undone by the next layout
+    @Override
+    protected void onHide() {
+        AnimationClock.stop(loginBtn);
+        AnimationClock.stop(nameField);
+        nameField.revalidate();
+    }
+
+    // Back here after a logout: empty name, button ready again
+    @Override
+    protected void reset() {
+        nameField.setText("");
+        loginBtn.setEnabled(true);
+        loginBtn.setText(LOGIN_TEXT);
+    }
+
+    @Override
+    protected void dispose() {
+        AnimationClock.stop(loginBtn);
+        AnimationClock.stop(nameField);
+    }
+
+    // The border glow cycles once a second; the button only repaints when it changes
+    private boolean pulse(long elapsedMs) {
+        int alpha = (int) (30 + 20 * Math.sin((elapsedMs % 1000) / 1000.0 * Math.PI));
+        if (alpha != pulseAlpha && loginBtn.isEnabled()) {
+            pulseAlpha = alpha;
+            loginBtn.repaint();
+        }
+        return true;
+    }
+
     private String getDeviceName() {
         try {
             return InetAddress.getLocalHost().getHostName();
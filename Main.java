@@ -1,18 +1,30 @@
 package tictactoe;
 
 import javax.swing.*;
+import java.awt.*;
 
 public class Main {
     public static void main(String[] args) {
+        StartupTimeline.mark(StartupTimeline.MAIN);
         SwingUtilities.invokeLater(() -> {
-            JFrame frame = new JFrame("Tic Tac Toe");
+            JFrame frame = new JFrame("Tic Tac Toe") {
+                @Override
+                public void paint(Graphics g) {
+                    super.paint(g);
+                    StartupTimeline.framePainted();
+                }
+            };
             frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
             frame.setSize(600, 720);
             frame.setLocationRelativeTo(null);
 
+            // Only the login screen is built up front; the rest are built when first shown
             ScreenManager manager = new ScreenManager(frame);
 
             frame.setVisible(true);
+
+            // Resources for the later screens load while the player is logging in
+            Preloader.start();
         });
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,19 @@
 package tictactoe;
 
 import javax.sound.sampled.*;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MusicPlayer {
+    public static final String BACKGROUND_TRACK = "src/tictactoe/audio/background1.wav";
+
+    // File contents read ahead of time by preload, by path
+    private static final Map<String, byte[]> PRELOADED = new ConcurrentHashMap<>();
+
     private static MusicPlayer instance;
     private Clip clip;
     private boolean isMuted = false;
@@ -22,6 +31,18 @@ public class MusicPlayer {
         return instance;
     }
 
+    /**
+     * Reads a track into memory and initialises the sound system, so the first playMusic
+     * call for it neither touches the disk nor waits for audio providers to load.
+     * @param filepath Path to the audio file (supports .wav format)
+     */
+    public static void preload(String filepath) throws IOException, UnsupportedAudioFileException {
+        byte[] data = Files.readAllBytes(new File(filepath).toPath());
+        AudioSystem.getAudioInputStream(new ByteArrayInputStream(data)).close();
+        AudioSystem.getMixerInfo();
+        PRELOADED.put(filepath, data);
+    }
+
     /**
      * Load and play background music
      * @param filepath Path to the audio file (supports .wav format)
@@ -31,14 +52,19 @@ public class MusicPlayer {
             // Stop any currently playing music
             stopMusic();
 
-            // Load the audio file
-            File audioFile = new File(filepath);
-            if (!audioFile.exists()) {
-                System.err.println("Music file not found: " + filepath);
-                return;
+            // Load the audio file, from memory if it was preloaded
+            AudioInputStream audioStream;
+            byte[] data = PRELOADED.get(filepath);
+            if (data != null) {
+                audioStream = AudioSystem.getAudioInputStream(new ByteArrayInputStream(data));
+            } else {
+                File audioFile = new File(filepath);
+                if (!audioFile.exists()) {
+                    System.err.println("Music file not found: " + filepath);
+                    return;
+                }
+                audioStream = AudioSystem.getAudioInputStream(audioFile);
             }
-
-            AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
             AudioFormat format = audioStream.getFormat();
             DataLine.Info info = new DataLine.Info(Clip.class, format);
 
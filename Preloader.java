@@ -0,0 +1,83 @@
+package tictactoe;
+
+import tictactoe.logic.BitBoard;
+import tictactoe.logic.OpeningBook;
+import tictactoe.logic.Tablebase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Warms everything the later screens need while the login screen is up: icons, the
+ * background track, settings, the engine's tablebase and opening book, and the backend
+ * connection. Each task runs on its own daemon thread and only fills a cache, so a
+ * screen opened before its task is done simply loads the resource itself.
+ */
+public class Preloader {
+
+    // Name and logical size of every icon the game and settings screens ask for
+    private static final Object[][] ICONS = {
+            {"music.png", 60}, {"mute.png", 60},
+            {"timer.png", 24}, {"profile.png", 24}, {"bot.png", 24},
+            {"settings.png", 36}, {"profile.png", 18},
+            {"gamepad.png", 20}, {"stats.png", 20}, {"music.png", 20},
+    };
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    private Preloader() {
+    }
+
+    public static void start() {
+        ExecutorService pool = Executors.newFixedThreadPool(5, r -> {
+            Thread thread = new Thread(r, "preload");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        tasks.add(task(pool, "icons", Preloader::loadIcons));
+        tasks.add(task(pool, "audio", () -> MusicPlayer.preload(MusicPlayer.BACKGROUND_TRACK)));
+        tasks.add(task(pool, "settings", SettingsScreen::getSettings));
+        tasks.add(task(pool, "engine", Preloader::loadEngine));
+        tasks.add(task(pool, "backend", DbCon::warmUp));
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((done, error) -> {
+                    StartupTimeline.mark(StartupTimeline.PRELOADED);
+                    pool.shutdown();
+                });
+    }
+
+    // A failed task is logged and otherwise ignored; the resource is loaded on demand later
+    private static CompletableFuture<Void> task(ExecutorService pool, String name, Task work) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                work.run();
+            } catch (Exception e) {
+                System.err.println("Preloading " + name + " failed: " + e.getMessage());
+            }
+            StartupTimeline.mark(name);
+        }, pool);
+    }
+
+    private static void loadIcons() {
+        for (Object[] icon : ICONS) {
+            int size = (Integer) icon[1];
+            ImageCache.getIcon((String) icon[0], size, size);
+        }
+    }
+
+    // Only the opening book for the board size in the settings is worth opening
+    private static void loadEngine() {
+        int boardSize = SettingsScreen.getBoardSize(SettingsScreen.getSettings());
+        Tablebase.probe(new BitBoard(3));
+        OpeningBook.probe(new BitBoard(boardSize), BitBoard.X);
+    }
+}
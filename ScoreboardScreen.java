@@ -8,7 +8,7 @@ import javax.swing.table.JTableHeader;
 import javax.swing.table.TableColumnModel;
 import java.awt.*;
 
-public class ScoreboardScreen extends JPanel {
+public class ScoreboardScreen extends Screen {
 
     // Dark Theme Color Palette
     private final Color BG_COLOR = new Color(18, 18, 24);
@@ -55,6 +55,12 @@ public class ScoreboardScreen extends JPanel {
         loadScores();
     }
 
+    // Rankings may have changed since the last visit
+    @Override
+    protected void reset() {
+        loadScores();
+    }
+
     private JPanel createHeaderPanel() {
         JPanel header = new JPanel();
         header.setLayout(new BoxLayout(header, BoxLayout.Y_AXIS));
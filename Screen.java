@@ -0,0 +1,27 @@
+package tictactoe;
+
+import javax.swing.*;
+
+/**
+ * A page in the ScreenManager's card layout. The constructor is the create step; after
+ * that a screen is shown and hidden any number of times, reset whenever it is reused
+ * from the cache, and disposed once when the cache evicts it.
+ */
+public abstract class Screen extends JPanel {
+
+    // Just became the visible card
+    protected void onShow() {
+    }
+
+    // Another card is about to replace this one
+    protected void onHide() {
+    }
+
+    // Reused from the cache: put everything back the way a freshly built screen has it
+    protected void reset() {
+    }
+
+    // Evicted for good: stop timers, threads and audio so nothing keeps it alive
+    protected void dispose() {
+    }
+}
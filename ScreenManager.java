@@ -2,12 +2,23 @@ package tictactoe;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class ScreenManager {
+    // Enough for every screen of one session; a different user or game setup pushes out the oldest
+    private static final int MAX_CACHED_SCREENS = 5;
+
     private JFrame frame;
     private JPanel mainPanel;
     private CardLayout cardLayout;
 
+    // Built screens by key, least recently shown first
+    private final LinkedHashMap<String, Screen> screens = new LinkedHashMap<>(16, 0.75f, true);
+    private Screen current;
+
     public ScreenManager(JFrame frame) {
         this.frame = frame;
         this.cardLayout = new CardLayout();
@@ -20,30 +31,21 @@ public class ScreenManager {
     }
 
     public void showLoginScreen() {
-        LoginScreen login = new LoginScreen(this);
-        mainPanel.add(login, "LOGIN");
-        cardLayout.show(mainPanel, "LOGIN");
+        show("LOGIN", () -> new LoginScreen(this));
     }
 
     public void showWelcomeScreen() {
-        WelcomeScreen welcome = new WelcomeScreen(this);
-        mainPanel.add(welcome, "WELCOME");
-        cardLayout.show(mainPanel, "WELCOME");
+        show("WELCOME:" + currentUser(), () -> new WelcomeScreen(this));
     }
 
     public void showGameModeScreen() {
-        String username = UserSession.getUsername();
-        if (username == null) username = "Guest";
-
-        GameModeScreen modeScreen = new GameModeScreen(this, username);
-        mainPanel.add(modeScreen, "MODE_SELECT");
-        cardLayout.show(mainPanel, "MODE_SELECT");
+        String username = currentUser();
+        show("MODE_SELECT:" + username, () -> new GameModeScreen(this, username));
     }
 
     public void showGameBoard(String mode, String difficulty, String player1, String player2, int boardSize) {
-        GameBoard game = new GameBoard(this, mode, difficulty, player1, player2, boardSize);
-        mainPanel.add(game, "GAME");
-        cardLayout.show(mainPanel, "GAME");
+        String key = "GAME:" + mode + ":" + difficulty + ":" + player1 + ":" + player2 + ":" + boardSize;
+        show(key, () -> new GameBoard(this, mode, difficulty, player1, player2, boardSize));
     }
 
     public void showGameBoard(String mode, String difficulty, String player1, String player2) {
@@ -51,17 +53,48 @@ public class ScreenManager {
     }
 
     public void showScoreboardScreen() {
-        ScoreboardScreen score = new ScoreboardScreen(this);
-        mainPanel.add(score, "SCOREBOARD");
-        cardLayout.show(mainPanel, "SCOREBOARD");
+        show("SCOREBOARD", () -> new ScoreboardScreen(this));
     }
 
     public void showSettingsScreen() {
+        String username = currentUser();
+        show("SETTINGS:" + username, () -> new SettingsScreen(this, username));
+    }
+
+    private String currentUser() {
         String username = UserSession.getUsername();
-        if (username == null) username = "Guest";
+        return username == null ? "Guest" : username;
+    }
+
+    // Reuses the cached screen for this key (reset to a fresh state) or builds it
+    private void show(String key, Supplier<Screen> factory) {
+        Screen screen = screens.get(key);
+        if (current != null && current != screen) {
+            current.onHide();
+        }
+
+        if (screen == null) {
+            screen = factory.get();
+            screens.put(key, screen);
+            mainPanel.add(screen, key);
+            evictOldest();
+        } else if (screen != current) {
+            screen.reset();
+        }
+
+        current = screen;
+        cardLayout.show(mainPanel, key);
+        screen.onShow();
+    }
 
-        SettingsScreen settings = new SettingsScreen(this, username);
-        mainPanel.add(settings, "SETTINGS");
-        cardLayout.show(mainPanel, "SETTINGS");
+    private void evictOldest() {
+        Iterator<Map.Entry<String, Screen>> it = screens.entrySet().iterator();
+        while (screens.size() > MAX_CACHED_SCREENS && it.hasNext()) {
+            Screen screen = it.next().getValue();
+            if (screen == current) continue;
+            it.remove();
+            mainPanel.remove(screen);
+            screen.dispose();
+        }
     }
-}
\ No newline at end of file
+}
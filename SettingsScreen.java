@@ -4,23 +4,34 @@ import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.geom.RoundRectangle2D;
-import java.awt.image.BufferedImage;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
-public class SettingsScreen extends JPanel {
+public class SettingsScreen extends Screen {
 
     private String loggedInUsername;
     private Properties settings;
     private static final String SETTINGS_FILE = "game_settings.properties";
 
+    // Parsed once per save and shared by every screen that reads settings
+    private static final Object SETTINGS_LOCK = new Object();
+    private static Properties cachedSettings;
+
     // UI Components
     private JComboBox<String> boardSizeCombo;
+    private JComboBox<String> botTimeCombo;
+    private JComboBox<String> botThreadsCombo;
+    private JCheckBox ponderCheck;
+    private JCheckBox searchStatsCheck;
     private JTextField timerIconField;
     private JTextField spotsTakenIconField;
     private JTextField humanWinIconField;
     private JTextField botWinIconField;
     private JCheckBox musicEnabledCheck;
+    // Per toggle: stop its slide and put the knob where the slide was heading
+    private final List<Runnable> toggleSnaps = new ArrayList<>();
 
     // Blue-Black Theme Color Palette
     private final Color BG_COLOR = new Color(18, 18, 24);
@@ -142,7 +153,7 @@ public class SettingsScreen extends JPanel {
         JPanel leftPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 15, 0));
         leftPanel.setOpaque(false);
 
-        ImageIcon settingsIcon = loadIcon("/tictactoe/img/settings.png", 36, 36);
+        ImageIcon settingsIcon = ImageCache.getIcon("settings.png", 36, 36);
         JLabel iconLabel = new JLabel(settingsIcon);
 
         // Title with gradient effect
@@ -184,7 +195,7 @@ public class SettingsScreen extends JPanel {
         userPanel.setOpaque(false);
         userPanel.setBorder(BorderFactory.createEmptyBorder(5, 0, 0, 0));
 
-        ImageIcon userIcon = loadIcon("/tictactoe/img/profile.png", 18, 18);
+        ImageIcon userIcon = ImageCache.getIcon("profile.png", 18, 18);
         JLabel userLabel = new JLabel(loggedInUsername);
         userLabel.setIcon(userIcon);
         userLabel.setIconTextGap(10);
@@ -238,7 +249,7 @@ public class SettingsScreen extends JPanel {
         content.add(sizeLabel, gbc);
 
         // Board Size Combo
-        String[] sizes = {"3x3 (Default)", "4x4", "5x5", "6x6"};
+        String[] sizes = {"3x3 (Default)", "4x4", "5x5", "6x6", "15x15 (5 in a row)", "19x19 (5 in a row)"};
         boardSizeCombo = new JComboBox<>(sizes);
         boardSizeCombo.setSelectedItem(settings.getProperty("boardSize", "3x3 (Default)"));
         styleComboBox(boardSizeCombo);
@@ -246,13 +257,83 @@ public class SettingsScreen extends JPanel {
         gbc.weightx = 0.6;
         content.add(boardSizeCombo, gbc);
 
+        // Bot Think Time Label
+        JLabel timeLabel = new JLabel("Bot Think Time");
+        timeLabel.setFont(new Font("Segoe UI Semibold", Font.PLAIN, 14));
+        timeLabel.setForeground(TEXT_PRIMARY);
+        gbc.gridx = 0;
+        gbc.gridy = 1;
+        gbc.weightx = 0.4;
+        content.add(timeLabel, gbc);
+
+        // Bot Think Time Combo
+        String[] times = {"0.5 s", "1 s (Default)", "2 s", "5 s"};
+        botTimeCombo = new JComboBox<>(times);
+        botTimeCombo.setSelectedItem(settings.getProperty("botThinkTime", "1 s (Default)"));
+        styleComboBox(botTimeCombo);
+        gbc.gridx = 1;
+        gbc.weightx = 0.6;
+        content.add(botTimeCombo, gbc);
+
+        // Search Threads Label
+        JLabel threadsLabel = new JLabel("Search Threads");
+        threadsLabel.setFont(new Font("Segoe UI Semibold", Font.PLAIN, 14));
+        threadsLabel.setForeground(TEXT_PRIMARY);
+        gbc.gridx = 0;
+        gbc.gridy = 2;
+        gbc.weightx = 0.4;
+        content.add(threadsLabel, gbc);
+
+        // Search Threads Combo
+        String[] threadCounts = {"1 (Default)", "2", "4", "8", "16"};
+        botThreadsCombo = new JComboBox<>(threadCounts);
+        botThreadsCombo.setSelectedItem(settings.getProperty("botThreads", "1 (Default)"));
+        styleComboBox(botThreadsCombo);
+        gbc.gridx = 1;
+        gbc.weightx = 0.6;
+        content.add(botThreadsCombo, gbc);
+
+        // Ponder Label
+        JLabel ponderLabel = new JLabel("Think on Your Turn");
+        ponderLabel.setFont(new Font("Segoe UI Semibold", Font.PLAIN, 14));
+        ponderLabel.setForeground(TEXT_PRIMARY);
+        gbc.gridx = 0;
+        gbc.gridy = 3;
+        gbc.weightx = 0.4;
+        content.add(ponderLabel, gbc);
+
+        // Ponder Toggle
+        ponderCheck = createModernToggleSwitch(isPonderEnabled(settings));
+        gbc.gridx = 1;
+        gbc.weightx = 0.6;
+        gbc.fill = GridBagConstraints.NONE;
+        content.add(ponderCheck, gbc);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        // Search Stats Label
+        JLabel searchStatsLabel = new JLabel("Show Search Stats");
+        searchStatsLabel.setFont(new Font("Segoe UI Semibold", Font.PLAIN, 14));
+        searchStatsLabel.setForeground(TEXT_PRIMARY);
+        gbc.gridx = 0;
+        gbc.gridy = 4;
+        gbc.weightx = 0.4;
+        content.add(searchStatsLabel, gbc);
+
+        // Search Stats Toggle
+        searchStatsCheck = createModernToggleSwitch(isSearchStatsEnabled(settings));
+        gbc.gridx = 1;
+        gbc.weightx = 0.6;
+        gbc.fill = GridBagConstraints.NONE;
+        content.add(searchStatsCheck, gbc);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
         // Info text
-        JLabel infoLabel = new JLabel("Choose the board size for your game");
+        JLabel infoLabel = new JLabel("Choose the board size and how hard the Hard bot may think");
         infoLabel.setFont(new Font("Segoe UI", Font.PLAIN, 12));
         infoLabel.setForeground(TEXT_SECONDARY);
         infoLabel.setBorder(BorderFactory.createEmptyBorder(5, 0, 0, 0));
         gbc.gridx = 0;
-        gbc.gridy = 1;
+        gbc.gridy = 5;
         gbc.gridwidth = 2;
         content.add(infoLabel, gbc);
 
@@ -402,7 +483,7 @@ public class SettingsScreen extends JPanel {
         titlePanel.setOpaque(false);
         titlePanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 15, 20));
 
-        ImageIcon icon = loadIcon("/tictactoe/img/" + iconName, 20, 20);
+        ImageIcon icon = ImageCache.getIcon(iconName, 20, 20);
         JLabel iconLabel = new JLabel(icon);
 
         JLabel titleLabel = new JLabel(title);
@@ -498,22 +579,13 @@ public class SettingsScreen extends JPanel {
     }
 
     private JCheckBox createModernToggleSwitch(boolean initialState) {
+        float[] position = {initialState ? 1.0f : 0.0f};
         JCheckBox checkBox = new JCheckBox() {
-            private float animation = initialState ? 1.0f : 0.0f;
-
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2 = (Graphics2D) g;
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-                // Animate toggle
-                if (isSelected() && animation < 1.0f) {
-                    animation = Math.min(animation + 0.1f, 1.0f);
-                    repaint(20);
-                } else if (!isSelected() && animation > 0.0f) {
-                    animation = Math.max(animation - 0.1f, 0.0f);
-                    repaint(20);
-                }
+                float animation = position[0];
 
                 // Draw track
                 int trackWidth = 48;
@@ -542,6 +614,21 @@ public class SettingsScreen extends JPanel {
         };
 
         checkBox.setSelected(initialState);
+
+        // Animate toggle: the knob slides to the new state on the shared clock
+        checkBox.addItemListener(e -> {
+            if (AnimationClock.isAnimating(checkBox)) return;
+            AnimationClock.start(checkBox, elapsed -> {
+                boolean on = checkBox.isSelected();
+                position[0] = on ? Math.min(position[0] + 0.1f, 1.0f) : Math.max(position[0] - 0.1f, 0.0f);
+                checkBox.repaint();
+                return on ? position[0] < 1.0f : position[0] > 0.0f;
+            });
+        });
+        toggleSnaps.add(() -> {
+            AnimationClock.stop(checkBox);
+            position[0] = checkBox.isSelected() ? 1.0f : 0.0f;
+        });
         checkBox.setBackground(CARD_BG);
         checkBox.setFocusPainted(false);
         checkBox.setContentAreaFilled(false);
@@ -576,26 +663,6 @@ public class SettingsScreen extends JPanel {
         combo.setFocusable(false);
     }
 
-    private ImageIcon loadIcon(String path, int width, int height) {
-        try {
-            return new ImageIcon(
-                    new ImageIcon(getClass().getResource(path))
-                            .getImage()
-                            .getScaledInstance(width, height, Image.SCALE_SMOOTH)
-            );
-        } catch (Exception e) {
-            System.err.println("Could not load icon: " + path);
-            // Create a simple colored circle as fallback
-            BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            Graphics2D g2d = img.createGraphics();
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2d.setColor(TEXT_SECONDARY);
-            g2d.fillOval(0, 0, width, height);
-            g2d.dispose();
-            return new ImageIcon(img);
-        }
-    }
-
     private void showSuccessMessage() {
         JOptionPane.showMessageDialog(this,
                 "<html><div style='background:#1e1e28;color:#f0f0f0;padding:15px;border-radius:5px;'>" +
@@ -606,6 +673,38 @@ public class SettingsScreen extends JPanel {
                 JOptionPane.INFORMATION_MESSAGE);
     }
 
+    // A slide cut off by leaving would otherwise leave its knob halfway
+    @Override
+    protected void onHide() {
+        toggleSnaps.forEach(Runnable::run);
+    }
+
+    // A toggle animated just before leaving would otherwise keep this screen referenced
+    @Override
+    protected void dispose() {
+        AnimationClock.stop(ponderCheck);
+        AnimationClock.stop(searchStatsCheck);
+        AnimationClock.stop(musicEnabledCheck);
+        AnimationClock.stop(this);
+    }
+
+    // Unsaved edits from the last visit are dropped: controls show what is on disk
+    @Override
+    protected void reset() {
+        settings = new Properties();
+        loadSettings();
+        boardSizeCombo.setSelectedItem(settings.getProperty("boardSize", "3x3 (Default)"));
+        botTimeCombo.setSelectedItem(settings.getProperty("botThinkTime", "1 s (Default)"));
+        botThreadsCombo.setSelectedItem(settings.getProperty("botThreads", "1 (Default)"));
+        ponderCheck.setSelected(isPonderEnabled(settings));
+        searchStatsCheck.setSelected(isSearchStatsEnabled(settings));
+        timerIconField.setText(settings.getProperty("timerLabel", "Timer"));
+        spotsTakenIconField.setText(settings.getProperty("spotsTakenLabel", "Moves"));
+        humanWinIconField.setText(settings.getProperty("humanWinLabel", "You"));
+        botWinIconField.setText(settings.getProperty("botWinLabel", "Bot"));
+        musicEnabledCheck.setSelected(Boolean.parseBoolean(settings.getProperty("musicEnabled", "true")));
+    }
+
     /* ===================== SETTINGS IO ===================== */
     private void loadSettings() {
         try {
@@ -623,6 +722,10 @@ public class SettingsScreen extends JPanel {
     private void saveSettings() {
         try {
             settings.setProperty("boardSize", boardSizeCombo.getSelectedItem().toString());
+            settings.setProperty("botThinkTime", botTimeCombo.getSelectedItem().toString());
+            settings.setProperty("botThreads", botThreadsCombo.getSelectedItem().toString());
+            settings.setProperty("ponderEnabled", String.valueOf(ponderCheck.isSelected()));
+            settings.setProperty("searchStats", String.valueOf(searchStatsCheck.isSelected()));
             settings.setProperty("timerLabel", timerIconField.getText().trim());
             settings.setProperty("spotsTakenLabel", spotsTakenIconField.getText().trim());
             settings.setProperty("humanWinLabel", humanWinIconField.getText().trim());
@@ -632,6 +735,9 @@ public class SettingsScreen extends JPanel {
             FileOutputStream fos = new FileOutputStream(SETTINGS_FILE);
             settings.store(fos, "Game Settings");
             fos.close();
+            synchronized (SETTINGS_LOCK) {
+                cachedSettings = null;
+            }
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this,
                     "<html><div style='background:#1e1e28;color:#f0f0f0;padding:15px;border-radius:5px;'>" +
@@ -643,7 +749,22 @@ public class SettingsScreen extends JPanel {
         }
     }
 
+    /**
+     * The saved settings, or the defaults if nothing was saved. The file is parsed once and
+     * again only after a save; callers get their own copy to read or change.
+     */
     public static Properties getSettings() {
+        synchronized (SETTINGS_LOCK) {
+            if (cachedSettings == null) {
+                cachedSettings = readSettings();
+            }
+            Properties copy = new Properties();
+            copy.putAll(cachedSettings);
+            return copy;
+        }
+    }
+
+    private static Properties readSettings() {
         Properties props = new Properties();
         try {
             File file = new File(SETTINGS_FILE);
@@ -654,6 +775,10 @@ public class SettingsScreen extends JPanel {
             } else {
                 // Default values
                 props.setProperty("boardSize", "3x3 (Default)");
+                props.setProperty("botThinkTime", "1 s (Default)");
+                props.setProperty("botThreads", "1 (Default)");
+                props.setProperty("ponderEnabled", "false");
+                props.setProperty("searchStats", "false");
                 props.setProperty("timerLabel", "Timer");
                 props.setProperty("spotsTakenLabel", "Moves");
                 props.setProperty("humanWinLabel", "You");
@@ -665,4 +790,44 @@ public class SettingsScreen extends JPanel {
         }
         return props;
     }
-}
\ No newline at end of file
+
+    // "3x3 (Default)" / "15x15 (5 in a row)" -> side length
+    public static int getBoardSize(Properties props) {
+        try {
+            String value = props.getProperty("boardSize", "3x3 (Default)");
+            return Integer.parseInt(value.substring(0, value.indexOf('x')));
+        } catch (Exception e) {
+            return 3;
+        }
+    }
+
+    // "0.5 s" / "1 s (Default)" -> milliseconds
+    public static long getBotThinkTimeMs(Properties props) {
+        try {
+            String value = props.getProperty("botThinkTime", "1 s (Default)");
+            return Math.round(Double.parseDouble(value.substring(0, value.indexOf(' '))) * 1000);
+        } catch (Exception e) {
+            return 1000;
+        }
+    }
+
+    // "4" / "1 (Default)" -> thread count
+    public static int getBotThreads(Properties props) {
+        try {
+            String value = props.getProperty("botThreads", "1 (Default)");
+            return Integer.parseInt(value.split(" ")[0]);
+        } catch (Exception e) {
+            return 1;
+        }
+    }
+
+    // Hard and Master keep searching while the player decides
+    public static boolean isPonderEnabled(Properties props) {
+        return Boolean.parseBoolean(props.getProperty("ponderEnabled", "false"));
+    }
+
+    // Debug line under the score in bot games: nodes, depth and timing of each bot move
+    public static boolean isSearchStatsEnabled(Properties props) {
+        return Boolean.parseBoolean(props.getProperty("searchStats", "false"));
+    }
+}
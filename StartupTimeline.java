@@ -0,0 +1,99 @@
+package tictactoe;
+
+import javax.swing.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Milestones of one launch in milliseconds since the JVM process started. Once the
+ * first frame is painted, the UI has answered input and preloading has finished, the
+ * run can be appended to a CSV so launches can be compared across releases: pass
+ * -Dtictactoe.startup.log=startup_timeline.csv (any path). Each mark is also printed
+ * when running with -Dtictactoe.startup.verbose=true.
+ */
+public class StartupTimeline {
+
+    public static final String MAIN = "main";
+    public static final String FIRST_FRAME = "first frame";
+    public static final String INTERACTIVE = "interactive";
+    public static final String PRELOADED = "preloaded";
+
+    // Nothing is written unless a file is named
+    private static final String LOG_FILE = System.getProperty("tictactoe.startup.log");
+    private static final String[] COLUMNS = {MAIN, FIRST_FRAME, INTERACTIVE, PRELOADED};
+    private static final boolean VERBOSE = Boolean.getBoolean("tictactoe.startup.verbose");
+
+    private static final long ORIGIN = processStartMillis();
+    private static final Map<String, Long> MARKS = new LinkedHashMap<>();
+    private static boolean written = false;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Records an event the first time it happens; later marks of the same name are ignored.
+     */
+    public static void mark(String event) {
+        long millis = System.currentTimeMillis() - ORIGIN;
+        boolean complete;
+        synchronized (MARKS) {
+            if (MARKS.putIfAbsent(event, millis) != null) return;
+            complete = LOG_FILE != null && !written && hasAll();
+            if (complete) written = true;
+        }
+        if (VERBOSE) System.out.println("[Startup] " + event + " at " + millis + " ms");
+        if (complete) write();
+    }
+
+    /**
+     * Called from the frame's paint: the first call is the first frame, and the EDT
+     * reaching the event queued behind it is when input gets handled again.
+     */
+    public static void framePainted() {
+        synchronized (MARKS) {
+            if (MARKS.containsKey(FIRST_FRAME)) return;
+        }
+        mark(FIRST_FRAME);
+        SwingUtilities.invokeLater(() -> mark(INTERACTIVE));
+    }
+
+    private static boolean hasAll() {
+        for (String column : COLUMNS) {
+            if (!MARKS.containsKey(column)) return false;
+        }
+        return true;
+    }
+
+    private static void write() {
+        StringBuilder line = new StringBuilder(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        line.append(',').append(System.getProperty("java.version"));
+        synchronized (MARKS) {
+            for (String column : COLUMNS) {
+                line.append(',').append(MARKS.get(column));
+            }
+        }
+
+        boolean newFile = !new File(LOG_FILE).exists();
+        try (PrintWriter out = new PrintWriter(new FileWriter(LOG_FILE, true))) {
+            if (newFile) {
+                out.println("date,java,main_ms,first_frame_ms,interactive_ms,preloaded_ms");
+            }
+            out.println(line);
+        } catch (IOException e) {
+            System.err.println("Could not write startup timeline: " + e.getMessage());
+        }
+    }
+
+    // Falls back to class-load time where the OS does not report a start time
+    private static long processStartMillis() {
+        return ProcessHandle.current().info().startInstant()
+                .map(instant -> instant.toEpochMilli())
+                .orElse(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,180 @@
+package tictactoe;
+
+import tictactoe.logic.BitBoard;
+import tictactoe.logic.BotAI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless bot-vs-bot matches for measuring strength and engine speed. Every pairing of
+ * difficulties plays every board size with each bot taking X in turn; games run in
+ * parallel, one per core, with single-threaded searches so they don't compete. Bot
+ * search state lives per thread, so every worker hands X's and O's moves to two search
+ * threads of its own: the sides never read each other's table, tree or ponder result,
+ * and both start every game from empty state, so no game sees another's either.
+ * Game i of a run is seeded with seed + i, so a run replays from its seed (exactly for
+ * Easy and Medium; Hard and Master also depend on how far the clock lets them search).
+ * Usage: java tictactoe.Tournament [gamesPerPairing] [thinkMs] [sizes] [difficulties] [seed]
+ *   e.g. java tictactoe.Tournament 20 200 3,4,5,15 Easy,Medium,Hard,Master 42
+ */
+public class Tournament {
+
+    private static final String[] DEFAULT_DIFFICULTIES = {"Easy", "Medium", "Hard", "Master"};
+    private static final int[] DEFAULT_SIZES = {3, 4, 5};
+
+    // One search thread per side for each worker, indexed by BitBoard.X / O
+    private static final List<ExecutorService> SIDE_THREADS = Collections.synchronizedList(new ArrayList<>());
+    private static final ThreadLocal<ExecutorService[]> SIDES = ThreadLocal.withInitial(() -> {
+        ExecutorService[] sides = {Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor()};
+        SIDE_THREADS.add(sides[BitBoard.X]);
+        SIDE_THREADS.add(sides[BitBoard.O]);
+        return sides;
+    });
+
+    // Outcome of one game plus what each side spent on it, indexed by BitBoard.X / O
+    private static class GameResult {
+        final int[] bots = new int[2];
+        final int[] moves = new int[2];
+        final long[] moveNanos = new long[2];
+        final long[] nodes = new long[2];
+        int winner = BitBoard.NONE;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        long thinkMs = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int[] sizes = args.length > 2 ? parseSizes(args[2]) : DEFAULT_SIZES;
+        String[] bots = args.length > 3 ? args[3].split(",") : DEFAULT_DIFFICULTIES;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : System.currentTimeMillis();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        BotAI.setTimeBudgetMs(thinkMs);
+        BotAI.setThreads(1);
+
+        System.out.printf("%d games per pairing, %d ms per move, %d cores, seed %d%n", games, thinkMs, cores, seed);
+        ExecutorService pool = Executors.newFixedThreadPool(cores);
+        try {
+            for (int size : sizes) {
+                runSize(pool, size, games, bots, seed);
+                seed += (long) bots.length * bots.length * games;
+            }
+        } finally {
+            pool.shutdown();
+            SIDE_THREADS.forEach(ExecutorService::shutdown);
+        }
+    }
+
+    private static void runSize(ExecutorService pool, int size, int games, String[] bots, long seed) throws Exception {
+        long start = System.nanoTime();
+        List<Future<GameResult>> futures = new ArrayList<>();
+        for (int x = 0; x < bots.length; x++) {
+            for (int o = 0; o < bots.length; o++) {
+                for (int game = 0; game < games; game++) {
+                    final int xBot = x;
+                    final int oBot = o;
+                    final long gameSeed = seed + futures.size();
+                    futures.add(pool.submit(() -> play(size, bots, xBot, oBot, gameSeed)));
+                }
+            }
+        }
+
+        int n = bots.length;
+        int[][][] outcomes = new int[n][n][3]; // X wins, draws, O wins
+        long[] moves = new long[n];
+        long[] moveNanos = new long[n];
+        long[] nodes = new long[n];
+        for (Future<GameResult> future : futures) {
+            GameResult result = future.get();
+            int column = result.winner == BitBoard.X ? 0 : result.winner == BitBoard.O ? 2 : 1;
+            outcomes[result.bots[BitBoard.X]][result.bots[BitBoard.O]][column]++;
+            for (int side = BitBoard.X; side <= BitBoard.O; side++) {
+                int bot = result.bots[side];
+                moves[bot] += result.moves[side];
+                moveNanos[bot] += result.moveNanos[side];
+                nodes[bot] += result.nodes[side];
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        BitBoard rules = new BitBoard(size);
+        System.out.printf("%n%dx%d, %d in a row: %d games in %.1f s, %.1f games/s%n",
+                size, size, rules.getLineLength(), futures.size(), seconds, futures.size() / seconds);
+        System.out.println("W-D-L for the X bot (rows) against the O bot (columns)");
+        System.out.printf("%-8s", "X \\ O");
+        for (String bot : bots) System.out.printf("%12s", bot);
+        System.out.println();
+        for (int x = 0; x < n; x++) {
+            System.out.printf("%-8s", bots[x]);
+            for (int o = 0; o < n; o++) {
+                int[] c = outcomes[x][o];
+                System.out.printf("%12s", c[0] + "-" + c[1] + "-" + c[2]);
+            }
+            System.out.println();
+        }
+
+        System.out.println("bot       score   ms/move    nodes/s");
+        for (int bot = 0; bot < n; bot++) {
+            double points = 0;
+            int played = 0;
+            for (int other = 0; other < n; other++) {
+                int[] asX = outcomes[bot][other];
+                int[] asO = outcomes[other][bot];
+                points += asX[0] + asO[2] + 0.5 * (asX[1] + asO[1]);
+                played += asX[0] + asX[1] + asX[2] + asO[0] + asO[1] + asO[2];
+            }
+            double ms = moveNanos[bot] / 1e6;
+            System.out.printf("%-8s %5.1f%% %9.2f %10.0f%n", bots[bot], 100.0 * points / played,
+                    moves[bot] == 0 ? 0 : ms / moves[bot], ms == 0 ? 0 : nodes[bot] / (ms / 1000));
+        }
+    }
+
+    // Plays one game from the calling worker, each side searching on its own thread
+    private static GameResult play(int size, String[] bots, int xBot, int oBot, long seed) throws Exception {
+        ExecutorService[] sides = SIDES.get();
+        for (ExecutorService side : sides) {
+            side.submit(() -> {
+                BotAI.clearSearchState();
+                BotAI.setGameSeed(seed);
+            }).get();
+        }
+        GameResult result = new GameResult();
+        result.bots[BitBoard.X] = xBot;
+        result.bots[BitBoard.O] = oBot;
+
+        BitBoard board = new BitBoard(size);
+        int player = BitBoard.X;
+        while (!board.isFull()) {
+            int side = player;
+            int move = sides[side].submit(() -> {
+                long start = System.nanoTime();
+                int found = BotAI.getMove(bots[result.bots[side]], board, side);
+                result.moveNanos[side] += System.nanoTime() - start;
+                result.nodes[side] += BotAI.getLastStats().getNodes();
+                return found;
+            }).get();
+            result.moves[player]++;
+            if (move == -1) break;
+
+            if (board.make(move, player)) {
+                result.winner = player;
+                break;
+            }
+            player = 1 - player;
+        }
+        return result;
+    }
+
+    private static int[] parseSizes(String list) {
+        String[] parts = list.split(",");
+        int[] sizes = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            sizes[i] = Integer.parseInt(parts[i].trim());
+        }
+        return sizes;
+    }
+}
@@ -2,8 +2,10 @@ package tictactoe;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 
-public class WelcomeScreen extends JPanel {
+public class WelcomeScreen extends Screen {
 
     // Dark Theme Color Palette
     private final Color BG_COLOR = new Color(18, 18, 24);
@@ -17,6 +19,16 @@ public class WelcomeScreen extends JPanel {
     private final Color BUTTON_GRAY = new Color(108, 117, 125);
     private final Color BUTTON_GRAY_HOVER = new Color(128, 137, 145);
 
+    private static final int FADE_MS = 400;
+
+    // Faded out on logout, so restored when the screen is reused
+    private JButton logoutBtn;
+    private Color logoutForeground;
+    private boolean loggingOut = false;
+
+    // Every button with a hover glow, so their animations can be dropped with the screen
+    private final List<JButton> styledButtons = new ArrayList<>();
+
     public WelcomeScreen(ScreenManager manager) {
         setLayout(new BorderLayout());
         setBackground(BG_COLOR);
@@ -210,22 +222,22 @@ public class WelcomeScreen extends JPanel {
         buttonPanel.add(Box.createRigidArea(new Dimension(0, 15)));
 
         // Logout Button
-        JButton logoutBtn = createStyledButton("🚪 LOGOUT", BUTTON_RED);
+        logoutBtn = createStyledButton("🚪 LOGOUT", BUTTON_RED);
+        logoutForeground = logoutBtn.getForeground();
         logoutBtn.addActionListener(e -> {
-            // Fade out animation
-            Timer fadeTimer = new Timer(20, null);
-            float[] alpha = {1.0f};
-            fadeTimer.addActionListener(ev -> {
-                alpha[0] -= 0.05f;
-                if (alpha[0] <= 0) {
-                    fadeTimer.stop();
+            // Fade out animation; the button's hover glow may be running on the clock too
+            if (loggingOut) return;
+            loggingOut = true;
+            AnimationClock.start(logoutBtn, elapsed -> {
+                float alpha = 1.0f - (float) elapsed / FADE_MS;
+                if (alpha <= 0) {
                     UserSession.logout();
                     manager.showLoginScreen();
-                } else {
-                    logoutBtn.setForeground(new Color(255, 255, 255, (int)(alpha[0] * 255)));
+                    return false;
                 }
+                logoutBtn.setForeground(new Color(255, 255, 255, (int)(alpha * 255)));
+                return true;
             });
-            fadeTimer.start();
         });
         buttonPanel.add(logoutBtn);
         buttonPanel.add(Box.createRigidArea(new Dimension(0, 15)));
@@ -246,18 +258,15 @@ public class WelcomeScreen extends JPanel {
 
             if (confirm == JOptionPane.YES_OPTION) {
                 // Fade out animation before exit
-                Timer fadeTimer = new Timer(20, null);
-                float[] alpha = {1.0f};
-                fadeTimer.addActionListener(ev -> {
-                    alpha[0] -= 0.05f;
-                    if (alpha[0] <= 0) {
-                        fadeTimer.stop();
+                AnimationClock.start(this, elapsed -> {
+                    float alpha = 1.0f - (float) elapsed / FADE_MS;
+                    if (alpha <= 0) {
                         System.exit(0);
                     }
-                    setBackground(new Color(18, 18, 24, (int)(alpha[0] * 255)));
+                    setBackground(new Color(18, 18, 24, (int)(alpha * 255)));
                     repaint();
+                    return true;
                 });
-                fadeTimer.start();
             }
         });
         buttonPanel.add(exitBtn);
@@ -265,22 +274,34 @@ public class WelcomeScreen extends JPanel {
         return buttonPanel;
     }
 
+    @Override
+    protected void reset() {
+        loggingOut = false;
+        logoutBtn.setForeground(logoutForeground);
+    }
+
+    // A cut-off hover glow picks up from where it stopped on the next rollover change
+    @Override
+    protected void onHide() {
+        for (JButton btn : styledButtons) {
+            AnimationClock.stop(btn);
+        }
+        AnimationClock.stop(this);
+    }
+
+    @Override
+    protected void dispose() {
+        onHide();
+    }
+
     private JButton createStyledButton(String text, Color baseColor) {
+        float[] glow = {0};
         JButton btn = new JButton(text) {
-            private float glow = 0;
-
             @Override
             protected void paintComponent(Graphics g) {
                 Graphics2D g2d = (Graphics2D) g.create();
                 g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-                // Glow animation
-                if (getModel().isRollover() || getModel().isPressed()) {
-                    glow = Math.min(glow + 0.1f, 1.0f);
-                } else {
-                    glow = Math.max(glow - 0.1f, 0.0f);
-                }
-
                 // Determine button color based on state
                 Color buttonColor;
                 if (getModel().isPressed()) {
@@ -302,8 +323,8 @@ public class WelcomeScreen extends JPanel {
                 g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 15, 15);
 
                 // Draw glow effect
-                if (glow > 0) {
-                    g2d.setColor(new Color(255, 255, 255, (int)(50 * glow)));
+                if (glow[0] > 0) {
+                    g2d.setColor(new Color(255, 255, 255, (int)(50 * glow[0])));
                     g2d.setStroke(new BasicStroke(2));
                     g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 15, 15);
                 }
@@ -332,14 +353,20 @@ public class WelcomeScreen extends JPanel {
                 g2d.drawString(label, x, y);
 
                 g2d.dispose();
-
-                // Continue animation
-                if (glow > 0 || getModel().isRollover()) {
-                    repaint(30);
-                }
             }
         };
 
+        // Glow animation: fades in on hover and out again, then the clock goes quiet
+        btn.getModel().addChangeListener(e -> {
+            if (AnimationClock.isAnimating(btn)) return;
+            AnimationClock.start(btn, elapsed -> {
+                boolean lit = btn.getModel().isRollover() || btn.getModel().isPressed();
+                glow[0] = lit ? Math.min(glow[0] + 0.05f, 1.0f) : Math.max(glow[0] - 0.05f, 0.0f);
+                btn.repaint();
+                return lit ? glow[0] < 1.0f : glow[0] > 0.0f;
+            });
+        });
+
         btn.setContentAreaFilled(false);
         btn.setBorderPainted(false);
         btn.setFocusPainted(false);
@@ -348,6 +375,7 @@ public class WelcomeScreen extends JPanel {
         btn.setAlignmentX(Component.CENTER_ALIGNMENT);
         btn.setCursor(new Cursor(Cursor.HAND_CURSOR));
 
+        styledButtons.add(btn);
         return btn;
     }
 
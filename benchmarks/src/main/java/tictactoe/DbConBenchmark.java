@@ -0,0 +1,56 @@
+package tictactoe;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard parsing on payloads shaped like the score table's REST responses,
+ * from the usual top 10 up to a full dump.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DbConBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int rows;
+
+    private String payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"player\":\"player").append(i)
+                    .append("\",\"score\":").append(rows - i)
+                    .append(",\"created_at\":\"2024-05-").append(String.format("%02d", 1 + i % 28))
+                    .append("T12:34:56.789012+00:00\"}");
+        }
+        payload = json.append(']').toString();
+    }
+
+    @Benchmark
+    public Object[][] parseLeaderboard() {
+        return DbCon.parseJsonArray(payload);
+    }
+
+    @Benchmark
+    public int parseScore() {
+        return DbCon.parseJsonInt(payload, "score");
+    }
+}
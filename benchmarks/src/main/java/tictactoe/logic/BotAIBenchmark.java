@@ -0,0 +1,68 @@
+package tictactoe.logic;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves per second for the quick bots on each board size, from a fixed middlegame
+ * position. Hard and Master, which search until their time budget, are in
+ * {@link BotSearchBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BotAIBenchmark {
+
+    @Param({"Easy", "Medium"})
+    public String difficulty;
+
+    @Param({"3", "4", "5", "6", "15", "19"})
+    public int size;
+
+    private BitBoard board;
+    private int player;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long nodes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // A few stones each, past the opening book, nowhere near the end
+        int[] moves = Positions.quietGame(size, Math.min(size, 8));
+        board = Positions.play(size, moves);
+        player = moves.length % 2 == 0 ? BitBoard.X : BitBoard.O;
+        BotAI.setThreads(1);
+    }
+
+    // These bots keep no search state worth measuring, so once per iteration is enough
+    @Setup(Level.Iteration)
+    public void clearSearchState() {
+        BotAI.clearSearchState();
+    }
+
+    @Benchmark
+    public int getMove(Counters counters) {
+        int move = BotAI.getMove(difficulty, board, player);
+        counters.nodes += BotAI.getLastStats().getNodes();
+        return move;
+    }
+}
@@ -0,0 +1,70 @@
+package tictactoe.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-click work of a human game. makeMove replays a fixed game from an empty
+ * board; the two checks run on the position that game ends in.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLogicBenchmark {
+
+    // Long enough to fill the small boards, a middlegame on the big ones
+    private static final int MAX_PLIES = 40;
+
+    @Param({"3", "4", "5", "6", "15", "19"})
+    public int size;
+
+    private int[] moves;
+    private GameLogic replay;
+    private GameLogic position;
+
+    @Setup
+    public void setUp() {
+        moves = Positions.quietGame(size, MAX_PLIES);
+        replay = new GameLogic(size);
+        position = new GameLogic(size);
+        for (int move : moves) {
+            position.makeMove(move);
+            position.switchTurn();
+        }
+    }
+
+    // Whole game per operation: divide by the move count for a single move
+    @Benchmark
+    public void makeMove(Blackhole blackhole) {
+        replay.reset();
+        for (int move : moves) {
+            blackhole.consume(replay.makeMove(move));
+            replay.switchTurn();
+        }
+    }
+
+    @Benchmark
+    public boolean checkWinner() {
+        return position.checkWinner();
+    }
+
+    @Benchmark
+    public boolean isDraw() {
+        return position.isDraw();
+    }
+}
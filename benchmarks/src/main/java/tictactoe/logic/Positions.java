@@ -0,0 +1,44 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Fixed, seeded move sequences so every commit is benchmarked on the same positions.
+ */
+final class Positions {
+
+    private static final long SEED = 20240601L;
+
+    private Positions() {
+    }
+
+    // Up to maxPlies alternating moves, none of which completes a line, so the game stays open
+    static int[] quietGame(int size, int maxPlies) {
+        BitBoard board = new BitBoard(size);
+        SplittableRandom random = new SplittableRandom(SEED + size);
+        int[] moves = new int[Math.min(maxPlies, board.getCells())];
+        int played = 0;
+        int player = BitBoard.X;
+        int attempts = 0;
+        while (played < moves.length && attempts++ < 100 * board.getCells()) {
+            int cell = random.nextInt(board.getCells());
+            if (!board.isEmpty(cell)) continue;
+            if (board.make(cell, player)) {
+                board.unmake(cell);
+                continue;
+            }
+            moves[played++] = cell;
+            player = 1 - player;
+        }
+        return Arrays.copyOf(moves, played);
+    }
+
+    static BitBoard play(int size, int[] moves) {
+        BitBoard board = new BitBoard(size);
+        for (int i = 0; i < moves.length; i++) {
+            board.make(moves[i], i % 2 == 0 ? BitBoard.X : BitBoard.O);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,98 @@
+package tictactoe.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The alpha-beta search against plain exhaustive minimax on every reachable 3x3
+ * position that is still in play, for whichever side is to move.
+ */
+class SearchMinimaxTest {
+
+    @Test
+    void matchesMinimaxWithoutTable() {
+        int checked = checkAll(false);
+        assertTrue(checked > 4000, "only " + checked + " positions checked");
+    }
+
+    @Test
+    void matchesMinimaxWithTable() {
+        checkAll(true);
+    }
+
+    // Walks the game tree once per position; returns how many positions were compared
+    private static int checkAll(boolean withTable) {
+        BitBoard board = new BitBoard(3);
+        Set<Long> seen = new HashSet<>();
+        return walk(board, BitBoard.X, withTable, seen);
+    }
+
+    private static int walk(BitBoard board, int player, boolean withTable, Set<Long> seen) {
+        if (!seen.add(board.getHash() * 2 + player)) return 0;
+        int checked = check(board, player, withTable);
+
+        for (int cell = 0; cell < board.getCells(); cell++) {
+            if (!board.isEmpty(cell)) continue;
+            boolean won = board.make(cell, player);
+            if (!won && !board.isFull()) {
+                checked += walk(board, 1 - player, withTable, seen);
+            }
+            board.unmake(cell);
+        }
+        return checked;
+    }
+
+    private static int check(BitBoard position, int player, boolean withTable) {
+        BitBoard board = new BitBoard(3);
+        board.copyFrom(position);
+        int expected = minimax(board, player);
+
+        Search search = withTable ? new Search(board, new TranspositionTable(1)) : new Search(board);
+        int move = search.findBestMove(player, board.getCells());
+        int score = search.getLastScore();
+        String where = describe(position, player);
+        assertEquals(expected, Integer.signum(score), "value of " + where);
+
+        // The move played must keep that value
+        assertTrue(board.isEmpty(move), "illegal move " + move + " in " + where);
+        boolean wins = board.make(move, player);
+        int after = wins ? 1 : board.isFull() ? 0 : -minimax(board, 1 - player);
+        board.unmake(move);
+        assertEquals(expected, after, "move " + move + " in " + where);
+        return 1;
+    }
+
+    // 1 if the side to move wins with best play, 0 for a draw, -1 for a loss
+    private static int minimax(BitBoard board, int player) {
+        int best = -1;
+        for (int cell = 0; cell < board.getCells() && best < 1; cell++) {
+            if (!board.isEmpty(cell)) continue;
+            int value;
+            if (board.make(cell, player)) {
+                value = 1;
+            } else if (board.isFull()) {
+                value = 0;
+            } else {
+                value = -minimax(board, 1 - player);
+            }
+            board.unmake(cell);
+            best = Math.max(best, value);
+        }
+        return best;
+    }
+
+    private static String describe(BitBoard board, int player) {
+        StringBuilder text = new StringBuilder();
+        for (int cell = 0; cell < board.getCells(); cell++) {
+            int stone = board.get(cell);
+            text.append(stone == BitBoard.X ? 'X' : stone == BitBoard.O ? 'O' : '.');
+            if (cell % 3 == 2 && cell < 8) text.append('/');
+        }
+        return text + " (" + (player == BitBoard.X ? "X" : "O") + " to move)";
+    }
+}
@@ -0,0 +1,316 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+
+public class BitBoard {
+
+    public static final int NONE = -1;
+    public static final int X = 0;
+    public static final int O = 1;
+
+    private final WinLines lines;
+    private final int size;
+    private final int cells;
+    private final int words;
+    private final int lineLength;
+
+    // One bit per cell for each player; boards up to 8x8 fit in a single long
+    private final long[][] stones;
+
+    // Stones each player has on every win line, and how many lines are complete
+    private final int[][] lineCounts;
+    private final int[] completedLines = new int[2];
+
+    // openLines[p][k]: lines where p has exactly k stones and the opponent none
+    private final int[][] openLines;
+
+    // Zobrist hash of the stones under each of the 8 board symmetries, updated on
+    // every make/unmake; symHashes[IDENTITY] is the plain position hash
+    private final long[][] zobrist;
+    private final int[][] symmetries;
+    private final long[] symHashes = new long[Symmetry.COUNT];
+
+    // Moves in play order, so unmake can restore the previous last move
+    private final int[] history;
+    private int moveCount;
+
+    // Empty cells worth playing: all of them on full-line boards; on k-in-a-row boards
+    // only those near a stone, so move generation scales with stones rather than area
+    private final boolean sparse;
+    private final CellSet candidates;
+    private final int[] nearbyStones;
+    private final int centre;
+
+    // Every empty cell; the same set as the candidates on full-line boards
+    private final CellSet emptyCells;
+
+    public BitBoard(int size) {
+        this(size, WinLines.defaultWinLength(size));
+    }
+
+    public BitBoard(int size, int winLength) {
+        this.lines = WinLines.forRules(size, winLength);
+        this.size = size;
+        this.cells = lines.getCells();
+        this.words = lines.getWords();
+        this.lineLength = lines.getLineLength();
+        this.stones = new long[2][words];
+        this.lineCounts = new int[2][lines.getLineCount()];
+        this.openLines = new int[2][lineLength + 1];
+        this.history = new int[cells];
+        this.zobrist = Zobrist.forCells(cells);
+        this.symmetries = new int[Symmetry.COUNT][];
+        for (int sym = 0; sym < Symmetry.COUNT; sym++) {
+            symmetries[sym] = Symmetry.forSize(size).getPermutation(sym);
+        }
+        this.sparse = lines.isSparse();
+        this.candidates = new CellSet(cells);
+        this.emptyCells = sparse ? new CellSet(cells) : candidates;
+        this.nearbyStones = new int[sparse ? cells : 0];
+        this.centre = (size / 2) * size + size / 2;
+        reset();
+    }
+
+    // Replays the other board's moves so the history and all counters match
+    public void copyFrom(BitBoard other) {
+        reset();
+        for (int i = 0; i < other.moveCount; i++) {
+            int cell = other.history[i];
+            make(cell, other.get(cell));
+        }
+    }
+
+    /**
+     * Place a stone and update only the lines through that cell.
+     * @return true if the move completes a line for the player
+     */
+    public boolean make(int cell, int player) {
+        stones[player][cell >>> 6] |= 1L << (cell & 63);
+        updateHashes(player, cell);
+        history[moveCount++] = cell;
+        candidates.remove(cell);
+        if (sparse) {
+            emptyCells.remove(cell);
+            for (int near : lines.getNeighbours(cell)) {
+                if (nearbyStones[near]++ == 0 && isEmpty(near)) candidates.add(near);
+            }
+        }
+
+        boolean won = false;
+        int[] counts = lineCounts[player];
+        int[] theirCounts = lineCounts[1 - player];
+        int[] open = openLines[player];
+        for (int line : lines.getLinesThrough(cell)) {
+            int own = counts[line];
+            int theirs = theirCounts[line];
+            if (theirs == 0) {
+                open[own]--;
+                open[own + 1]++;
+            }
+            if (own == 0) {
+                // The opponent can no longer complete this line
+                openLines[1 - player][theirs]--;
+            }
+            if (++counts[line] == lineLength) {
+                completedLines[player]++;
+                won = true;
+            }
+        }
+        return won;
+    }
+
+    /**
+     * Take back the most recent move (must be {@code cell}).
+     */
+    public void unmake(int cell) {
+        int player = get(cell);
+        stones[player][cell >>> 6] &= ~(1L << (cell & 63));
+        updateHashes(player, cell);
+        moveCount--;
+        if (sparse) {
+            for (int near : lines.getNeighbours(cell)) {
+                if (--nearbyStones[near] == 0 && isEmpty(near)) candidates.remove(near);
+            }
+        }
+        if (!sparse || nearbyStones[cell] > 0) candidates.add(cell);
+        if (sparse) emptyCells.add(cell);
+
+        int[] counts = lineCounts[player];
+        int[] theirCounts = lineCounts[1 - player];
+        int[] open = openLines[player];
+        for (int line : lines.getLinesThrough(cell)) {
+            if (counts[line]-- == lineLength) {
+                completedLines[player]--;
+            }
+            int own = counts[line];
+            int theirs = theirCounts[line];
+            if (theirs == 0) {
+                open[own + 1]--;
+                open[own]++;
+            }
+            if (own == 0) {
+                openLines[1 - player][theirs]++;
+            }
+        }
+    }
+
+    public boolean isEmpty(int cell) {
+        int word = cell >>> 6;
+        return ((stones[X][word] | stones[O][word]) & (1L << (cell & 63))) == 0;
+    }
+
+    public int get(int cell) {
+        int word = cell >>> 6;
+        long bit = 1L << (cell & 63);
+        if ((stones[X][word] & bit) != 0) return X;
+        if ((stones[O][word] & bit) != 0) return O;
+        return NONE;
+    }
+
+    public int getLineStones(int player, int line) {
+        return lineCounts[player][line];
+    }
+
+    // First empty cell on the line, or -1 if it is full
+    public int emptyCellOn(int line) {
+        long[] mask = lines.getMask(line);
+        for (int w = 0; w < words; w++) {
+            long free = mask[w] & ~(stones[X][w] | stones[O][w]);
+            if (free != 0) return (w << 6) + Long.numberOfTrailingZeros(free);
+        }
+        return -1;
+    }
+
+    // Lines the player could still complete that already hold exactly {@code stones} of theirs
+    public int getOpenLines(int player, int stones) {
+        return openLines[player][stones];
+    }
+
+    public boolean hasWon(int player) {
+        return completedLines[player] > 0;
+    }
+
+    public int winner() {
+        if (completedLines[X] > 0) return X;
+        if (completedLines[O] > 0) return O;
+        return NONE;
+    }
+
+    public boolean isFull() {
+        return moveCount == cells;
+    }
+
+    public boolean isDraw() {
+        return moveCount == cells && completedLines[X] == 0 && completedLines[O] == 0;
+    }
+
+    private void updateHashes(int player, int cell) {
+        long[] keys = zobrist[player];
+        for (int sym = 0; sym < Symmetry.COUNT; sym++) {
+            symHashes[sym] ^= keys[symmetries[sym][cell]];
+        }
+    }
+
+    public long getHash() {
+        return symHashes[Symmetry.IDENTITY];
+    }
+
+    // Same for every position in the equivalence class
+    public long getCanonicalHash() {
+        long min = symHashes[0];
+        for (int sym = 1; sym < Symmetry.COUNT; sym++) {
+            if (symHashes[sym] < min) min = symHashes[sym];
+        }
+        return min;
+    }
+
+    // The symmetry that maps this position onto its canonical form
+    public int getCanonicalSymmetry() {
+        int best = 0;
+        for (int sym = 1; sym < Symmetry.COUNT; sym++) {
+            if (symHashes[sym] < symHashes[best]) best = sym;
+        }
+        return best;
+    }
+
+    // True if the position maps onto itself under the symmetry
+    public boolean isInvariant(int sym) {
+        if (symHashes[sym] != symHashes[Symmetry.IDENTITY]) return false;
+        int[] perm = symmetries[sym];
+        for (int i = 0; i < moveCount; i++) {
+            int cell = history[i];
+            if (get(perm[cell]) != get(cell)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Empty cells the bots should consider. Read-only; copy it first (CellSet.copyTo)
+     * before making moves while walking it, since make/unmake reorder the set.
+     */
+    public CellSet getCandidates() {
+        return candidates;
+    }
+
+    // Read-only, and reordered by make/unmake like the candidates
+    public CellSet getEmptyCells() {
+        return emptyCells;
+    }
+
+    public int getLastMove() {
+        return moveCount == 0 ? -1 : history[moveCount - 1];
+    }
+
+    public void reset() {
+        for (int w = 0; w < words; w++) {
+            stones[X][w] = 0;
+            stones[O][w] = 0;
+        }
+        Arrays.fill(lineCounts[X], 0);
+        Arrays.fill(lineCounts[O], 0);
+        completedLines[X] = 0;
+        completedLines[O] = 0;
+        Arrays.fill(openLines[X], 0);
+        Arrays.fill(openLines[O], 0);
+        openLines[X][0] = lines.getLineCount();
+        openLines[O][0] = lines.getLineCount();
+        moveCount = 0;
+        Arrays.fill(symHashes, 0L);
+
+        candidates.clear();
+        if (sparse) {
+            // The centre counts as near a stone, so an empty board has one candidate
+            Arrays.fill(nearbyStones, 0);
+            nearbyStones[centre] = 1;
+            candidates.add(centre);
+            emptyCells.clear();
+            for (int cell = 0; cell < cells; cell++) {
+                emptyCells.add(cell);
+            }
+        } else {
+            for (int cell = 0; cell < cells; cell++) {
+                candidates.add(cell);
+            }
+        }
+    }
+
+    public WinLines getLines() {
+        return lines;
+    }
+
+    public int getLineLength() {
+        return lineLength;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCells() {
+        return cells;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
@@ -1,227 +1,254 @@
 package tictactoe.logic;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class BotAI {
 
-    public static int getMove(String difficulty, String[] board, int boardSize, int spotsTaken) {
+    private static final int DEFAULT_HASH_MB = 16;
+    private static final long DEFAULT_TIME_BUDGET_MS = 1000;
+    private static final long THREAT_NODE_LIMIT = 200_000;
+
+    // Pondering stops here even if the opponent is still thinking
+    private static final long PONDER_LIMIT_MS = 30_000;
+
+    private static volatile long timeBudgetMs = DEFAULT_TIME_BUDGET_MS;
+    private static volatile int threads = 1;
+
+    private static volatile int hashSizeMb = DEFAULT_HASH_MB;
+
+    // Board copy, searches, transposition table and buffers for whichever thread asks
+    // for a move; threads never share search state, so concurrent games stay independent
+    private static final ThreadLocal<SearchContext> CONTEXT = ThreadLocal.withInitial(SearchContext::new);
+
+    // Memory cap for each thread's transposition table; takes effect on the next search
+    public static void setHashSizeMb(int megabytes) {
+        hashSizeMb = Math.max(1, megabytes);
+    }
+
+    // Wall-clock limit for one Hard move
+    public static void setTimeBudgetMs(long millis) {
+        timeBudgetMs = Math.max(1, millis);
+    }
+
+    // Worker threads for Hard and Master; 1 keeps the search fully deterministic
+    public static void setThreads(int count) {
+        threads = Math.max(1, count);
+    }
+
+    /**
+     * How this thread's last getMove (or ponder) found its move. The instance is reused
+     * by the next call, so copy it to keep it; {@link #findMove} does that for you.
+     */
+    public static SearchStats getLastStats() {
+        return CONTEXT.get().getStats();
+    }
+
+    // Empties this thread's table and search trees, so the next move starts cold
+    public static void clearSearchState() {
+        CONTEXT.get().clearSearches();
+    }
+
+    /**
+     * Seeds the calling thread's bot randomness (Easy's picks, Medium's fallback, Master's
+     * playouts) for the current game; see {@link GameLogic#getSeed()}.
+     */
+    public static void setGameSeed(long seed) {
+        CONTEXT.get().setGameSeed(seed);
+    }
+
+    /**
+     * Best move for the side to move. The live board is copied into this thread's
+     * context first, so the caller's position is never touched by the search.
+     * @param player BitBoard.X or BitBoard.O
+     * @return cell index, or -1 if the board is full
+     */
+    public static int getMove(String difficulty, BitBoard live, int player) {
+        return getMove(difficulty, live, player, null);
+    }
+
+    /**
+     * As above, but the search gives up soon after {@code stopFlag} is raised from another
+     * thread; the move returned then is only a best guess and is usually discarded.
+     */
+    public static int getMove(String difficulty, BitBoard live, int player, AtomicBoolean stopFlag) {
+        long start = System.nanoTime();
+        SearchContext context = CONTEXT.get();
+        SearchStats stats = context.getStats();
+        stats.reset();
+        int move = chooseMove(context, difficulty, live, player, stopFlag);
+        stats.setNanos(System.nanoTime() - start);
+        return move;
+    }
+
+    /**
+     * getMove plus a copy of its {@link SearchStats}.
+     */
+    public static BotMove findMove(String difficulty, BitBoard live, int player, AtomicBoolean stopFlag) {
+        int move = getMove(difficulty, live, player, stopFlag);
+        return new BotMove(move, getLastStats().copy());
+    }
+
+    private static int chooseMove(SearchContext context, String difficulty, BitBoard live, int player,
+                                  AtomicBoolean stopFlag) {
+        BitBoard board = context.load(live);
+        context.setStopFlag(stopFlag);
+        context.seedMove(board);
+
+        // On a ponder hit this exact position was already searched: credit that time
+        long budgetMs = timeBudgetMs;
+        if (context.isPonderHit(difficulty, board, player)) {
+            int ponderMove = context.getPonderMove();
+            long ponderMs = context.getPonderMillis();
+            context.clearPonder();
+            if (ponderMs >= budgetMs && ponderMove != -1 && board.isEmpty(ponderMove)) {
+                context.getStats().setSource("ponder");
+                return ponderMove;
+            }
+            budgetMs = Math.max(1, budgetMs - ponderMs);
+        }
+        context.clearPonder();
+
         if ("Easy".equals(difficulty)) {
-            return easyBot(board, boardSize);
+            return easyBot(context, board);
         } else if ("Medium".equals(difficulty)) {
-            return mediumBot(board, boardSize, spotsTaken);
+            return mediumBot(context, board, player);
         } else if ("Hard".equals(difficulty)) {
-            return hardBot(board, boardSize, spotsTaken);
+            return hardBot(context, board, player, budgetMs);
+        } else if ("Master".equals(difficulty)) {
+            return masterBot(context, board, player, budgetMs);
         }
         return -1;
     }
 
-    private static int easyBot(String[] board, int boardSize) {
-        Random rand = new Random();
-        int botIndex;
-        // Safety check to prevent infinite loop if board is full
-        boolean full = true;
-        for (String s : board) {
-            if (s.isEmpty()) {
-                full = false;
-                break;
-            }
-        }
-        if (full) return -1;
-
-        do {
-            botIndex = rand.nextInt(boardSize * boardSize);
-        } while (!board[botIndex].isEmpty());
-        return botIndex;
-    }
-
-    private static int mediumBot(String[] board, int boardSize, int spotsTaken) {
-        // 1. Check if bot (O) can win
-        for (int i = 0; i < board.length; i++) {
-            if (board[i].isEmpty()) {
-                board[i] = "O"; // Try move
-                if (checkWinningMove(board, boardSize)) {
-                    board[i] = ""; // Reset
-                    return i;
-                }
-                board[i] = ""; // Reset
+    /**
+     * Uses the opponent's thinking time. A short search guesses their reply, then the
+     * position after it is searched as the bot would until {@code stopFlag} is raised.
+     * The table (Hard) or tree (Master) keeps that work; if the guess was right, the
+     * next getMove also gets the time spent credited against its budget.
+     * @param live position with the opponent to move
+     * @param player the bot's side
+     */
+    public static void ponder(String difficulty, BitBoard live, int player, AtomicBoolean stopFlag) {
+        if (!"Hard".equals(difficulty) && !"Master".equals(difficulty)) return;
+        SearchContext context = CONTEXT.get();
+        BitBoard board = context.load(live);
+        context.setStopFlag(stopFlag);
+        context.seedMove(board);
+        context.clearPonder();
+        context.getStats().reset();
+
+        int opponent = 1 - player;
+        int guess = hardBot(context, board, opponent, Math.max(1, timeBudgetMs / 5));
+        if (guess == -1 || stopFlag.get()) return;
+        if (board.make(guess, opponent) || board.isFull()) return;
+
+        long start = System.nanoTime();
+        int move = "Hard".equals(difficulty)
+                ? hardBot(context, board, player, PONDER_LIMIT_MS)
+                : masterBot(context, board, player, PONDER_LIMIT_MS);
+        context.setPonderResult(difficulty, board, player, move, (System.nanoTime() - start) / 1_000_000L);
+    }
+
+    private static int easyBot(SearchContext context, BitBoard board) {
+        if (board.isFull()) return -1;
+
+        // Straight from the indexed set of empty cells, however full the board is
+        context.getStats().setSource("random");
+        return board.getEmptyCells().pick(context.getRandom());
+    }
+
+    private static int mediumBot(SearchContext context, BitBoard board, int player) {
+        // Only cells near stones can complete a line; copied since make/unmake reorder the set
+        int[] moves = context.getMoveBuffer();
+        int count = board.getCandidates().copyTo(moves);
+
+        // 1. Check if the bot can win
+        for (int i = 0; i < count; i++) {
+            boolean wins = board.make(moves[i], player); // Try move
+            board.unmake(moves[i]); // Reset
+            if (wins) {
+                context.getStats().setSource("rules");
+                return moves[i];
             }
         }
 
-        // 2. Block player (X)
-        for (int i = 0; i < board.length; i++) {
-            if (board[i].isEmpty()) {
-                board[i] = "X"; // Simulate Player
-                if (checkWinningMove(board, boardSize)) {
-                    board[i] = ""; // Reset
-                    return i;
-                }
-                board[i] = ""; // Reset
+        // 2. Block the opponent
+        for (int i = 0; i < count; i++) {
+            boolean wins = board.make(moves[i], 1 - player); // Simulate opponent
+            board.unmake(moves[i]); // Reset
+            if (wins) {
+                context.getStats().setSource("rules");
+                return moves[i];
             }
         }
 
-        return easyBot(board, boardSize);
+        return easyBot(context, board);
     }
 
-    private static int hardBot(String[] board, int boardSize, int spotsTaken) {
-        // For larger boards, use limited depth minimax to prevent lag
-        int maxDepth = (boardSize <= 3) ? 9 : 4;
+    private static int hardBot(SearchContext context, BitBoard board, int player, long budgetMs) {
+        SearchStats stats = context.getStats();
 
-        int bestScore = Integer.MIN_VALUE;
-        int bestMove = -1;
-
-        for (int i = 0; i < board.length; i++) {
-            if (board[i].isEmpty()) {
-                board[i] = "O"; // Bot makes move
-                int score = minimax(board, boardSize, false, 0, maxDepth);
-                board[i] = ""; // Undo move
+        // 3x3 is solved ahead of time: one lookup instead of a search
+        int tablebaseMove = Tablebase.probe(board);
+        if (tablebaseMove != -1) {
+            stats.setSource("tablebase");
+            return tablebaseMove;
+        }
 
-                if (score > bestScore) {
-                    bestScore = score;
-                    bestMove = i;
-                }
-            }
+        // Early positions on 4x4 to 6x6 come from the offline book
+        int bookMove = OpeningBook.probe(board, player);
+        if (bookMove != -1) {
+            stats.setSource("book");
+            return bookMove;
         }
 
-        if (bestMove == -1) return easyBot(board, boardSize);
+        // Forced wins by consecutive fours are far beyond the general search's horizon
+        int threatMove = findThreatWin(context, board, player, budgetMs);
+        if (threatMove != -1) return threatMove;
+
+        // Deepen until the position is solved or the time budget runs out
+        int maxDepth = board.getCells();
+
+        // Depth-limited leaves on the bigger boards are scored by open lines instead of as draws
+        ParallelSearch search = context.getParallelSearch(threads);
+        search.setEvaluator(OpenLinesEvaluator.forLineLength(board.getLineLength()));
+
+        int bestMove = search.findBestMove(board, context.getTable(hashSizeMb), player, maxDepth, budgetMs);
+        stats.addSearch(search);
+        stats.setSource("alpha-beta");
+
+        if (bestMove == -1) return easyBot(context, board);
         return bestMove;
     }
 
-    private static int minimax(String[] board, int boardSize, boolean isMaximizing, int depth, int maxDepth) {
-        if (depth >= maxDepth) return 0;
-
-        if (checkWinningMove(board, boardSize)) {
-            String winner = getWinner(board, boardSize);
-            if (winner.equals("O")) return 10 - depth;
-            else if (winner.equals("X")) return depth - 10;
+    private static int masterBot(SearchContext context, BitBoard board, int player, long budgetMs) {
+        SearchStats stats = context.getStats();
+        int bookMove = OpeningBook.probe(board, player);
+        if (bookMove != -1) {
+            stats.setSource("book");
+            return bookMove;
         }
 
-        boolean boardFull = true;
-        for (String s : board) {
-            if (s.isEmpty()) {
-                boardFull = false;
-                break;
-            }
-        }
-        if (boardFull) return 0;
-
-        if (isMaximizing) {
-            int bestScore = Integer.MIN_VALUE;
-            for (int i = 0; i < board.length; i++) {
-                if (board[i].isEmpty()) {
-                    board[i] = "O";
-                    int score = minimax(board, boardSize, false, depth + 1, maxDepth);
-                    board[i] = "";
-                    bestScore = Math.max(score, bestScore);
-                }
-            }
-            return bestScore;
-        } else {
-            int bestScore = Integer.MAX_VALUE;
-            for (int i = 0; i < board.length; i++) {
-                if (board[i].isEmpty()) {
-                    board[i] = "X";
-                    int score = minimax(board, boardSize, true, depth + 1, maxDepth);
-                    board[i] = "";
-                    bestScore = Math.min(score, bestScore);
-                }
-            }
-            return bestScore;
-        }
+        int threatMove = findThreatWin(context, board, player, budgetMs);
+        if (threatMove != -1) return threatMove;
+
+        // More time means more playouts, so strength follows the think-time setting
+        MctsEngine mcts = context.getMctsEngine(threads);
+        int bestMove = mcts.findBestMove(board, player, budgetMs);
+        stats.addNodes(mcts.getIterations());
+        stats.setSource("mcts");
+
+        if (bestMove == -1) return easyBot(context, board);
+        return bestMove;
     }
 
-    // Helper: Check for winning move on the virtual board array
-    private static boolean checkWinningMove(String[] board, int boardSize) {
-        // Rows
-        for (int row = 0; row < boardSize; row++) {
-            String first = board[row * boardSize];
-            if (first.isEmpty()) continue;
-            boolean win = true;
-            for (int col = 1; col < boardSize; col++) {
-                if (!board[row * boardSize + col].equals(first)) {
-                    win = false;
-                    break;
-                }
-            }
-            if (win) return true;
-        }
-        // Cols
-        for (int col = 0; col < boardSize; col++) {
-            String first = board[col];
-            if (first.isEmpty()) continue;
-            boolean win = true;
-            for (int row = 1; row < boardSize; row++) {
-                if (!board[row * boardSize + col].equals(first)) {
-                    win = false;
-                    break;
-                }
-            }
-            if (win) return true;
-        }
-        // Diagonals
-        String firstD1 = board[0];
-        if (!firstD1.isEmpty()) {
-            boolean win = true;
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + i].equals(firstD1)) {
-                    win = false;
-                    break;
-                }
-            }
-            if (win) return true;
-        }
-        String firstD2 = board[boardSize - 1];
-        if (!firstD2.isEmpty()) {
-            boolean win = true;
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + (boardSize - 1 - i)].equals(firstD2)) {
-                    win = false;
-                    break;
-                }
-            }
-            if (win) return true;
-        }
-        return false;
-    }
-
-    private static String getWinner(String[] board, int boardSize) {
-        // Simplified winner check reusing logic structure (returns "X" or "O")
-        // Rows
-        for (int row = 0; row < boardSize; row++) {
-            String first = board[row * boardSize];
-            if (!first.isEmpty()) {
-                boolean win = true;
-                for (int col = 1; col < boardSize; col++) {
-                    if (!board[row * boardSize + col].equals(first)) { win = false; break; }
-                }
-                if (win) return first;
-            }
-        }
-        // Cols
-        for (int col = 0; col < boardSize; col++) {
-            String first = board[col];
-            if (!first.isEmpty()) {
-                boolean win = true;
-                for (int row = 1; row < boardSize; row++) {
-                    if (!board[row * boardSize + col].equals(first)) { win = false; break; }
-                }
-                if (win) return first;
-            }
-        }
-        // Diagonals
-        if (!board[0].isEmpty()) {
-            boolean win = true;
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + i].equals(board[0])) { win = false; break; }
-            }
-            if (win) return board[0];
-        }
-        if (!board[boardSize - 1].isEmpty()) {
-            boolean win = true;
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + (boardSize - 1 - i)].equals(board[boardSize - 1])) { win = false; break; }
-            }
-            if (win) return board[boardSize - 1];
-        }
-        return "";
+    // VCF for the bot on k-in-a-row boards, within a slice of the move's time budget
+    private static int findThreatWin(SearchContext context, BitBoard board, int player, long budgetMs) {
+        if (!board.getLines().isSparse()) return -1;
+        ThreatSearch threats = context.getThreatSearch();
+        int move = threats.findWin(player, Math.max(1, budgetMs / 5), THREAT_NODE_LIMIT);
+        context.getStats().addNodes(threats.getNodes());
+        if (move != -1) context.getStats().setSource("threats");
+        return move;
     }
-}
\ No newline at end of file
+}
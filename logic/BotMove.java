@@ -0,0 +1,24 @@
+package tictactoe.logic;
+
+/**
+ * A bot's move together with what it cost to find.
+ */
+public class BotMove {
+
+    private final int cell;
+    private final SearchStats stats;
+
+    public BotMove(int cell, SearchStats stats) {
+        this.cell = cell;
+        this.stats = stats;
+    }
+
+    // Cell index, or -1 if the board was full
+    public int getCell() {
+        return cell;
+    }
+
+    public SearchStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,73 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Set of cell indices with O(1) add, remove, membership and indexed access.
+ * Members are packed at the front of an array, so iterating costs O(size), not O(capacity).
+ * Removal moves the last member into the gap, so the order is not stable.
+ */
+public class CellSet {
+
+    private final int[] members;
+    private final int[] positions; // index of each cell in members, -1 if absent
+    private int size;
+
+    public CellSet(int capacity) {
+        this.members = new int[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    public boolean add(int cell) {
+        if (positions[cell] != -1) return false;
+        positions[cell] = size;
+        members[size++] = cell;
+        return true;
+    }
+
+    public boolean remove(int cell) {
+        int index = positions[cell];
+        if (index == -1) return false;
+        int last = members[--size];
+        members[index] = last;
+        positions[last] = index;
+        positions[cell] = -1;
+        return true;
+    }
+
+    public boolean contains(int cell) {
+        return positions[cell] != -1;
+    }
+
+    public int get(int index) {
+        return members[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Uniformly random member in O(1); the set must not be empty
+    public int pick(Random random) {
+        return members[random.nextInt(size)];
+    }
+
+    // Copies the members so the caller can change the board while walking them
+    public int copyTo(int[] out) {
+        System.arraycopy(members, 0, out, 0, size);
+        return size;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[members[i]] = -1;
+        }
+        size = 0;
+    }
+}
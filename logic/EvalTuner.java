@@ -0,0 +1,98 @@
+package tictactoe.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Scores evaluation variants against each other by self-play at a fixed, shallow depth.
+ * Openings are a few seeded random plies, since from an empty board every variant draws.
+ * Usage: java tictactoe.logic.EvalTuner [boardSize] [depth] [openings] [openingPlies]
+ */
+public class EvalTuner {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int openings = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int plies = args.length > 3 ? Integer.parseInt(args[3]) : size;
+        int lineLength = new BitBoard(size).getLineLength();
+
+        List<String> names = new ArrayList<>();
+        List<Evaluator> variants = new ArrayList<>();
+        names.add("none");
+        variants.add(null);
+        names.add("default");
+        variants.add(OpenLinesEvaluator.forLineLength(lineLength));
+        names.add("linear");
+        variants.add(new OpenLinesEvaluator(scaled(lineLength, 1), 0));
+        names.add("doubling");
+        variants.add(new OpenLinesEvaluator(scaled(lineLength, 2), 1));
+        names.add("steep");
+        variants.add(new OpenLinesEvaluator(scaled(lineLength, 8), 1));
+
+        int n = variants.size();
+        double[] points = new double[n];
+        int[] games = new int[n];
+
+        System.out.printf("Board %dx%d, depth %d, %d openings of %d plies per pairing, both colours%n",
+                size, size, depth, openings, plies);
+        for (int a = 0; a < n; a++) {
+            for (int b = a + 1; b < n; b++) {
+                double score = 0;
+                for (int opening = 0; opening < openings; opening++) {
+                    // Each opening is played twice with colours swapped
+                    score += play(size, depth, opening, plies, variants.get(a), variants.get(b));
+                    score += 1 - play(size, depth, opening, plies, variants.get(b), variants.get(a));
+                }
+                int played = 2 * openings;
+                points[a] += score;
+                points[b] += played - score;
+                games[a] += played;
+                games[b] += played;
+                System.out.printf("  %-9s vs %-9s %5.1f / %d%n", names.get(a), names.get(b), score, played);
+            }
+        }
+
+        System.out.println("variant     score");
+        for (int i = 0; i < n; i++) {
+            System.out.printf("%-9s %6.1f%%  %s%n", names.get(i), 100.0 * points[i] / games[i],
+                    variants.get(i) == null ? "" : variants.get(i));
+        }
+    }
+
+    // weights[k] = base^(k-1) for k below the line length
+    private static int[] scaled(int lineLength, int base) {
+        int[] weights = new int[lineLength + 1];
+        int weight = 1;
+        for (int k = 1; k < lineLength; k++) {
+            weights[k] = weight;
+            weight *= base;
+        }
+        return weights;
+    }
+
+    // One game from the numbered opening; returns 1, 0.5 or 0 for the X side
+    private static double play(int size, int depth, int opening, int plies, Evaluator x, Evaluator o) {
+        BitBoard board = new BitBoard(size);
+        Search search = new Search(board);
+        SplittableRandom random = new SplittableRandom(opening);
+        int player = BitBoard.X;
+
+        for (int ply = 0; ; ply++) {
+            int move;
+            if (ply < plies) {
+                do {
+                    move = random.nextInt(board.getCells());
+                } while (!board.isEmpty(move));
+            } else {
+                search.setEvaluator(player == BitBoard.X ? x : o);
+                move = search.findBestMove(player, depth);
+            }
+
+            if (board.make(move, player)) return player == BitBoard.X ? 1 : 0;
+            if (board.isFull()) return 0.5;
+            player = 1 - player;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package tictactoe.logic;
+
+/**
+ * Static score for a position the search stops at without a result.
+ * Implementations must be stateless, since parallel workers share one instance.
+ */
+public interface Evaluator {
+
+    /**
+     * @param player side to move
+     * @return score from the side to move's point of view; the search clamps it
+     *         well inside the win/loss range
+     */
+    int evaluate(BitBoard board, int player);
+}
@@ -1,28 +1,34 @@
 package tictactoe.logic;
 
+import java.util.Random;
+
 public class GameLogic {
-    private String[] board;
+    private static final Random SEEDS = new Random();
+
+    private BitBoard board;
     private boolean isXTurn;
     private int boardSize;
 
+    // Every game gets its own seed for the bots' randomness (see BotAI.setGameSeed);
+    // it is logged, and passing it back in replays the game
+    private long seed;
+
     public GameLogic(int boardSize) {
-        this.boardSize = boardSize;
-        this.board = new String[boardSize * boardSize];
-        this.isXTurn = true;
-        initializeBoard();
+        this(boardSize, SEEDS.nextLong());
     }
 
-    private void initializeBoard() {
-        for (int i = 0; i < board.length; i++) {
-            board[i] = "";
-        }
+    public GameLogic(int boardSize, long seed) {
+        this.boardSize = boardSize;
+        this.board = new BitBoard(boardSize);
+        this.isXTurn = true;
+        this.seed = seed;
     }
 
     public boolean makeMove(int index) {
-        if (index < 0 || index >= board.length || !board[index].isEmpty()) {
+        if (index < 0 || index >= board.getCells() || !board.isEmpty(index)) {
             return false;
         }
-        board[index] = isXTurn ? "X" : "O";
+        board.make(index, isXTurn ? BitBoard.X : BitBoard.O);
         return true;
     }
 
@@ -34,81 +40,49 @@ public class GameLogic {
         return isXTurn;
     }
 
+    // Only the lines through each move are re-counted, so both checks are O(1)
     public boolean checkWinner() {
-        // Check all rows
-        for (int row = 0; row < boardSize; row++) {
-            boolean rowWin = true;
-            String first = board[row * boardSize];
-            if (first.isEmpty()) continue;
-
-            for (int col = 1; col < boardSize; col++) {
-                if (!board[row * boardSize + col].equals(first)) {
-                    rowWin = false;
-                    break;
-                }
-            }
-            if (rowWin) return true;
-        }
+        return board.winner() != BitBoard.NONE;
+    }
 
-        // Check all columns
-        for (int col = 0; col < boardSize; col++) {
-            boolean colWin = true;
-            String first = board[col];
-            if (first.isEmpty()) continue;
-
-            for (int row = 1; row < boardSize; row++) {
-                if (!board[row * boardSize + col].equals(first)) {
-                    colWin = false;
-                    break;
-                }
-            }
-            if (colWin) return true;
-        }
+    public boolean isDraw() {
+        return board.isDraw();
+    }
 
-        // Check main diagonal (top-left to bottom-right)
-        boolean diagWin1 = true;
-        String first1 = board[0];
-        if (!first1.isEmpty()) {
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + i].equals(first1)) {
-                    diagWin1 = false;
-                    break;
-                }
-            }
-            if (diagWin1) return true;
-        }
+    public int getLastMove() {
+        return board.getLastMove();
+    }
 
-        // Check anti-diagonal (top-right to bottom-left)
-        boolean diagWin2 = true;
-        String first2 = board[boardSize - 1];
-        if (!first2.isEmpty()) {
-            for (int i = 1; i < boardSize; i++) {
-                if (!board[i * boardSize + (boardSize - 1 - i)].equals(first2)) {
-                    diagWin2 = false;
-                    break;
-                }
-            }
-            if (diagWin2) return true;
-        }
+    // Starts the next game with a fresh seed
+    public void reset() {
+        reset(SEEDS.nextLong());
+    }
 
-        return false;
+    public void reset(long seed) {
+        board.reset();
+        isXTurn = true;
+        this.seed = seed;
     }
 
-    public boolean isDraw() {
-        for (String cell : board) {
-            if (cell.isEmpty()) {
-                return false;
-            }
-        }
-        return !checkWinner();
+    public long getSeed() {
+        return seed;
     }
 
-    public void reset() {
-        initializeBoard();
-        isXTurn = true;
+    // The live position; BotAI copies it before searching
+    public BitBoard getBoard() {
+        return board;
+    }
+
+    public int getSideToMove() {
+        return isXTurn ? BitBoard.X : BitBoard.O;
     }
 
     public int getBoardSize() {
         return boardSize;
     }
-}
\ No newline at end of file
+
+    // Stones in a row needed to win: the full side up to 6x6, otherwise 5
+    public int getWinLength() {
+        return board.getLineLength();
+    }
+}
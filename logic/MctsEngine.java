@@ -0,0 +1,462 @@
+package tictactoe.logic;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Monte Carlo tree search (UCT) for the Master bot. Nodes live in preallocated
+ * arrays rather than objects, playouts run on the bitboard without allocating,
+ * and the subtree for the actual game continuation is kept between moves.
+ */
+public class MctsEngine {
+
+    private static final double EXPLORATION = 1.41;
+    static final int DEFAULT_CAPACITY = 1 << 18;
+
+    // Node pool; the children of a node occupy a contiguous block
+    private int[] parent;
+    private int[] firstChild;
+    private int[] childCount;
+    private int[] move;
+    private int[] visits;
+    private float[] wins; // from the point of view of the player who made the node's move
+
+    // Spare pool used to compact the reused subtree
+    private int[] spareParent;
+    private int[] spareFirstChild;
+    private int[] spareChildCount;
+    private int[] spareMove;
+    private int[] spareVisits;
+    private float[] spareWins;
+
+    private final int capacity;
+    private int used;
+    private int root = -1;
+
+    // Stones the tree root was built for, so a later position can be matched to a subtree
+    private WinLines rootLines;
+    private byte[] rootCells;
+    private int rootPlayer;
+
+    private final int threads;
+    private final ForkJoinPool pool;
+    private final Random random;
+
+    // Scratch space, one per worker, so playouts never allocate
+    private BitBoard[] playoutBoards;
+    private int[] path;
+    private int[] forcedBuffer;
+    private int[] bfsQueue;
+    // Reusable fork/join tasks for leaf-parallel playouts, reinitialised per leaf
+    private RecursiveAction[] playoutTasks;
+    private RecursiveAction leafTask;
+    private int[] playoutWinners;
+
+    // Leaf handed to the parallel playout tasks
+    private BitBoard leafBoard;
+    private int leafPlayer;
+
+    private AtomicBoolean stopFlag;
+
+    private long iterations;
+    private int reusedVisits;
+
+    public MctsEngine(int threads) {
+        this(threads, DEFAULT_CAPACITY, new Random());
+    }
+
+    public MctsEngine(int threads, int capacity, Random random) {
+        this.threads = Math.max(1, threads);
+        this.pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+        this.capacity = capacity;
+        this.random = random;
+
+        parent = new int[capacity];
+        firstChild = new int[capacity];
+        childCount = new int[capacity];
+        move = new int[capacity];
+        visits = new int[capacity];
+        wins = new float[capacity];
+        spareParent = new int[capacity];
+        spareFirstChild = new int[capacity];
+        spareChildCount = new int[capacity];
+        spareMove = new int[capacity];
+        spareVisits = new int[capacity];
+        spareWins = new float[capacity];
+        bfsQueue = new int[capacity];
+    }
+
+    /**
+     * Search the position until the budget is spent.
+     * @return most visited move for the player to move, or -1 if the board is full
+     */
+    public int findBestMove(BitBoard board, int player, long timeBudgetMs) {
+        iterations = 0;
+        if (board.isFull()) return -1;
+
+        // Nothing to think about with a single legal move
+        CellSet empty = board.getEmptyCells();
+        if (empty.size() == 1) return empty.get(0);
+
+        prepareScratch(board);
+        int forced = forcedMove(board, player);
+        if (forced != -1) return forced;
+
+        reuseOrReset(board, player);
+
+        long deadline = System.nanoTime() + Math.max(1, timeBudgetMs) * 1_000_000L;
+        do {
+            for (int i = 0; i < 64; i++) {
+                iterate(board);
+            }
+        } while (System.nanoTime() < deadline && (stopFlag == null || !stopFlag.get()));
+
+        int best = -1;
+        int bestVisits = -1;
+        int first = firstChild[root];
+        for (int c = first; c < first + childCount[root]; c++) {
+            if (visits[c] > bestVisits) {
+                bestVisits = visits[c];
+                best = move[c];
+            }
+        }
+        return best;
+    }
+
+    // One selection / expansion / playout / backpropagation pass
+    private void iterate(BitBoard board) {
+        int depth = 0;
+        int node = root;
+        int player = rootPlayer;
+        int winner = BitBoard.NONE;
+        boolean finished = false;
+
+        path[depth++] = node;
+        while (childCount[node] > 0) {
+            node = selectChild(node);
+            path[depth++] = node;
+            if (board.make(move[node], player)) {
+                winner = player;
+                finished = true;
+                player = 1 - player;
+                break;
+            }
+            player = 1 - player;
+            if (board.isFull()) {
+                finished = true;
+                break;
+            }
+        }
+
+        if (!finished && visits[node] > 0 && expand(node, board)) {
+            node = firstChild[node] + random.nextInt(childCount[node]);
+            path[depth++] = node;
+            if (board.make(move[node], player)) {
+                winner = player;
+                finished = true;
+            } else if (board.isFull()) {
+                finished = true;
+            }
+            player = 1 - player;
+        }
+
+        float xScore;
+        int samples = 1;
+        if (finished) {
+            xScore = winner == BitBoard.X ? 1f : winner == BitBoard.O ? 0f : 0.5f;
+        } else if (threads > 1) {
+            samples = threads;
+            xScore = parallelPlayouts(board, player);
+        } else {
+            xScore = scoreForX(playout(board, player, 0));
+        }
+
+        for (int i = depth - 1; i >= 1; i--) {
+            board.unmake(move[path[i]]);
+        }
+
+        // Node i's move was made by rootPlayer when i is odd on the path
+        for (int i = 0; i < depth; i++) {
+            int n = path[i];
+            int mover = (i % 2 == 1) ? rootPlayer : 1 - rootPlayer;
+            visits[n] += samples;
+            wins[n] += mover == BitBoard.X ? xScore : samples - xScore;
+        }
+        iterations++;
+    }
+
+    private int selectChild(int node) {
+        int first = firstChild[node];
+        int end = first + childCount[node];
+        double logParent = Math.log(visits[node]);
+
+        int best = first;
+        double bestValue = -1;
+        for (int c = first; c < end; c++) {
+            if (visits[c] == 0) return c;
+            double value = wins[c] / visits[c] + EXPLORATION * Math.sqrt(logParent / visits[c]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private boolean expand(int node, BitBoard board) {
+        CellSet candidates = board.getCandidates();
+        int count = candidates.size();
+        if (used + count > capacity) return false; // Pool full: keep sampling from the leaf
+
+        firstChild[node] = used;
+        childCount[node] = count;
+        for (int i = 0; i < count; i++) {
+            int child = used++;
+            parent[child] = node;
+            firstChild[child] = 0;
+            childCount[child] = 0;
+            move[child] = candidates.get(i);
+            visits[child] = 0;
+            wins[child] = 0;
+        }
+        return true;
+    }
+
+    // Random moves to the end of the game, each an O(1) draw from the board's empty-cell
+    // set; the board is restored before returning
+    private int playout(BitBoard board, int player, int worker) {
+        CellSet empty = board.getEmptyCells();
+        int start = board.getMoveCount();
+        int winner = BitBoard.NONE;
+        // Worker 0 uses the engine's generator; pool workers their own thread-local one
+        Random rng = worker == 0 ? random : ThreadLocalRandom.current();
+        while (!empty.isEmpty()) {
+            int cell = empty.pick(rng);
+            if (board.make(cell, player)) {
+                winner = player;
+                break;
+            }
+            player = 1 - player;
+        }
+
+        int played = board.getMoveCount() - start;
+        for (int i = 0; i < played; i++) {
+            board.unmake(board.getLastMove());
+        }
+        return winner;
+    }
+
+    // One playout per worker from the same leaf, summed as X's score
+    private float parallelPlayouts(BitBoard board, int player) {
+        leafBoard = board;
+        leafPlayer = player;
+        leafTask.reinitialize();
+        pool.invoke(leafTask);
+
+        float total = 0;
+        for (int winner : playoutWinners) {
+            total += scoreForX(winner);
+        }
+        return total;
+    }
+
+    private static float scoreForX(int winner) {
+        return winner == BitBoard.X ? 1f : winner == BitBoard.O ? 0f : 0.5f;
+    }
+
+    // Immediate win, else block the opponent's immediate win
+    private int forcedMove(BitBoard board, int player) {
+        int block = -1;
+        int count = board.getCandidates().copyTo(forcedBuffer);
+        for (int i = 0; i < count; i++) {
+            int cell = forcedBuffer[i];
+            boolean wins = board.make(cell, player);
+            board.unmake(cell);
+            if (wins) return cell;
+            if (block == -1) {
+                boolean loses = board.make(cell, 1 - player);
+                board.unmake(cell);
+                if (loses) block = cell;
+            }
+        }
+        return block;
+    }
+
+    /* ------------------------------ TREE REUSE ------------------------------ */
+
+    // Descends to the node for this position if it follows from the last root, else starts over
+    private void reuseOrReset(BitBoard board, int player) {
+        int node = matchSubtree(board);
+        if (node == -1) {
+            used = 0;
+            root = newRoot();
+            reusedVisits = 0;
+        } else {
+            root = node;
+            compact();
+            reusedVisits = visits[root];
+        }
+
+        rootLines = board.getLines();
+        rootCells = snapshot(board, rootCells);
+        rootPlayer = player;
+    }
+
+    private int matchSubtree(BitBoard board) {
+        if (root == -1 || rootLines != board.getLines()) return -1;
+
+        int cells = board.getCells();
+        int node = root;
+        int mover = rootPlayer;
+        int added = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            int before = rootCells[cell] - 1;
+            int now = board.get(cell);
+            if (before != BitBoard.NONE && before != now) return -1;
+            if (before == BitBoard.NONE && now != BitBoard.NONE) added++;
+        }
+
+        // Replay the new stones in turn order: each step must be an expanded child
+        while (added > 0) {
+            int next = -1;
+            int first = firstChild[node];
+            for (int c = first; c < first + childCount[node]; c++) {
+                if (rootCells[move[c]] == 0 && board.get(move[c]) == mover) {
+                    next = c;
+                    break;
+                }
+            }
+            if (next == -1) return -1;
+            node = next;
+            mover = 1 - mover;
+            added--;
+        }
+        return node;
+    }
+
+    // Copies the subtree under the new root to the front of the spare pool, then swaps pools
+    private void compact() {
+        int head = 0;
+        int tail = 0;
+        int next = 1;
+
+        spareParent[0] = -1;
+        spareMove[0] = move[root];
+        spareVisits[0] = visits[root];
+        spareWins[0] = wins[root];
+        bfsQueue[tail++] = root;
+
+        while (head < tail) {
+            int oldNode = bfsQueue[head];
+            int newNode = head++;
+            int count = childCount[oldNode];
+            spareChildCount[newNode] = count;
+            spareFirstChild[newNode] = count > 0 ? next : 0;
+            for (int i = 0; i < count; i++) {
+                int oldChild = firstChild[oldNode] + i;
+                int newChild = next++;
+                spareParent[newChild] = newNode;
+                spareMove[newChild] = move[oldChild];
+                spareVisits[newChild] = visits[oldChild];
+                spareWins[newChild] = wins[oldChild];
+                bfsQueue[tail++] = oldChild;
+            }
+        }
+
+        int[] ints;
+        ints = parent; parent = spareParent; spareParent = ints;
+        ints = firstChild; firstChild = spareFirstChild; spareFirstChild = ints;
+        ints = childCount; childCount = spareChildCount; spareChildCount = ints;
+        ints = move; move = spareMove; spareMove = ints;
+        ints = visits; visits = spareVisits; spareVisits = ints;
+        float[] floats = wins; wins = spareWins; spareWins = floats;
+
+        used = next;
+        root = 0;
+    }
+
+    private int newRoot() {
+        int node = used++;
+        parent[node] = -1;
+        firstChild[node] = 0;
+        childCount[node] = 0;
+        move[node] = -1;
+        visits[node] = 0;
+        wins[node] = 0;
+        return node;
+    }
+
+    private static byte[] snapshot(BitBoard board, byte[] cells) {
+        if (cells == null || cells.length != board.getCells()) {
+            cells = new byte[board.getCells()];
+        }
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = (byte) (board.get(cell) + 1);
+        }
+        return cells;
+    }
+
+    private void prepareScratch(BitBoard board) {
+        if (playoutBoards != null && playoutBoards[0].getLines() == board.getLines()) return;
+        playoutBoards = new BitBoard[threads];
+        path = new int[board.getCells() + 2];
+        forcedBuffer = new int[board.getCells()];
+        playoutTasks = new RecursiveAction[threads];
+        playoutWinners = new int[threads];
+        for (int t = 0; t < threads; t++) {
+            final int worker = t;
+            playoutBoards[t] = new BitBoard(board.getSize(), board.getLineLength());
+            playoutTasks[t] = new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    BitBoard copy = playoutBoards[worker];
+                    copy.copyFrom(leafBoard);
+                    playoutWinners[worker] = playout(copy, leafPlayer, worker);
+                }
+            };
+        }
+        leafTask = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                for (RecursiveAction task : playoutTasks) {
+                    task.reinitialize();
+                }
+                invokeAll(playoutTasks);
+            }
+        };
+    }
+
+    // The next search starts from a fresh tree even if it continues the last game
+    public void clearTree() {
+        root = -1;
+    }
+
+    // Raising the flag ends the search after the current batch of iterations
+    public void setStopFlag(AtomicBoolean stopFlag) {
+        this.stopFlag = stopFlag;
+    }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    // Visits inherited from the previous move's tree
+    public int getReusedVisits() {
+        return reusedVisits;
+    }
+
+    public int getNodesUsed() {
+        return used;
+    }
+}
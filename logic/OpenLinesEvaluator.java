@@ -0,0 +1,57 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Weighted count of lines each player can still complete, read from the counters
+ * BitBoard keeps up to date in make/unmake, so an evaluation costs O(line length).
+ */
+public class OpenLinesEvaluator implements Evaluator {
+
+    private static final ConcurrentHashMap<Integer, OpenLinesEvaluator> DEFAULTS = new ConcurrentHashMap<>();
+
+    private final int[] weights;
+    private final int tempo;
+
+    // weights[k]: value of an open line holding k of the player's stones
+    public OpenLinesEvaluator(int[] weights, int tempo) {
+        this.weights = weights.clone();
+        this.tempo = tempo;
+    }
+
+    // Each extra stone on an open line is worth four times the previous one; shared per line length
+    public static OpenLinesEvaluator forLineLength(int lineLength) {
+        return DEFAULTS.computeIfAbsent(lineLength, length -> {
+            int[] weights = new int[length + 1];
+            for (int k = 1; k < length; k++) {
+                weights[k] = 1 << (2 * (k - 1));
+            }
+            return new OpenLinesEvaluator(weights, 1);
+        });
+    }
+
+    @Override
+    public int evaluate(BitBoard board, int player) {
+        int opponent = 1 - player;
+        int score = tempo;
+        int top = Math.min(weights.length - 1, board.getLineLength());
+        for (int k = 1; k <= top; k++) {
+            score += weights[k] * (board.getOpenLines(player, k) - board.getOpenLines(opponent, k));
+        }
+        return score;
+    }
+
+    public int[] getWeights() {
+        return weights.clone();
+    }
+
+    public int getTempo() {
+        return tempo;
+    }
+
+    @Override
+    public String toString() {
+        return "weights=" + Arrays.toString(weights) + " tempo=" + tempo;
+    }
+}
@@ -0,0 +1,118 @@
+package tictactoe.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Precomputed early moves for 4x4-6x6, built offline by {@link OpeningBookBuilder}.
+ * Each board size has its own file of fixed-size entries sorted by position key
+ * (canonical hash with the side to move), looked up by binary search in a mapped copy.
+ */
+public class OpeningBook {
+
+    public static final String DIRECTORY = "src/tictactoe/book";
+    private static final String RESOURCE_DIRECTORY = "/tictactoe/book";
+
+    // Header: magic, version, board size, entry count, CRC32 of the entries
+    static final int MAGIC = 0x54544F42; // "TTOB"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    // Entry: key(8) | move in the canonical frame(2) | score for the side to move(2)
+    static final int ENTRY_BYTES = 12;
+
+    private static final ByteBuffer MISSING = ByteBuffer.allocate(0);
+    private static final ConcurrentHashMap<Integer, ByteBuffer> BOOKS = new ConcurrentHashMap<>();
+
+    /**
+     * Book move for the side to move, or -1 if the position is not in the book.
+     */
+    public static int probe(BitBoard board, int player) {
+        if (board.getLines().isSparse()) return -1;
+        ByteBuffer book = BOOKS.computeIfAbsent(board.getSize(), OpeningBook::open);
+        if (book == MISSING) return -1;
+
+        long key = key(board, player);
+        int low = 0;
+        int high = book.getInt(12) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long found = book.getLong(HEADER_BYTES + mid * ENTRY_BYTES);
+            if (found < key) {
+                low = mid + 1;
+            } else if (found > key) {
+                high = mid - 1;
+            } else {
+                int stored = book.getShort(HEADER_BYTES + mid * ENTRY_BYTES + 8);
+                int move = Symmetry.forSize(board.getSize()).invert(board.getCanonicalSymmetry(), stored);
+                return board.isEmpty(move) ? move : -1;
+            }
+        }
+        return -1;
+    }
+
+    // Same key the transposition table uses, so symmetric positions share one entry
+    static long key(BitBoard board, int player) {
+        return board.getCanonicalHash() ^ (player == BitBoard.O ? Zobrist.SIDE : 0L);
+    }
+
+    public static String fileName(int size) {
+        return "book_" + size + "x" + size + ".bin";
+    }
+
+    private static ByteBuffer open(int size) {
+        try {
+            Path file = Paths.get(DIRECTORY, fileName(size));
+            if (!Files.exists(file)) {
+                file = extractResource(size);
+                if (file == null) return MISSING;
+            }
+            return map(file, size);
+        } catch (IOException e) {
+            System.err.println("Opening book for " + size + "x" + size + " unavailable: " + e.getMessage());
+            return MISSING;
+        }
+    }
+
+    // Resources inside a jar cannot be mapped directly, so copy them out once
+    private static Path extractResource(int size) throws IOException {
+        try (InputStream in = OpeningBook.class.getResourceAsStream(RESOURCE_DIRECTORY + "/" + fileName(size))) {
+            if (in == null) return null;
+            Path temp = Files.createTempFile("book_" + size, ".bin");
+            temp.toFile().deleteOnExit();
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return temp;
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (channel.size() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("bad header");
+            }
+            int entries = buffer.getInt(12);
+            if (buffer.getInt(8) != size || channel.size() != HEADER_BYTES + (long) entries * ENTRY_BYTES) {
+                throw new IOException("unexpected size");
+            }
+            CRC32 crc = new CRC32();
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(HEADER_BYTES);
+            crc.update(payload);
+            if (buffer.getLong(16) != crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+            return buffer;
+        }
+    }
+}
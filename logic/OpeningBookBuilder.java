@@ -0,0 +1,137 @@
+package tictactoe.logic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Offline builder for {@link OpeningBook}. Walks the early game from the bot's side:
+ * every distinct reply for the player, one long search for the bot, then on along the
+ * bot's own choice, so the book holds exactly the positions the bot can reach.
+ * Usage: java tictactoe.logic.OpeningBookBuilder [size] [maxPly] [msPerPosition] [outputDir]
+ */
+public class OpeningBookBuilder {
+
+    private static final long DEFAULT_MS_PER_POSITION = 3000;
+    private static final int HASH_MB = 64;
+
+    private final BitBoard board;
+    private final Search search;
+    private final Symmetry symmetry;
+    private final int maxPly;
+    private final long msPerPosition;
+    private final int bot;
+
+    // Sorted by key, which is the order the lookup binary-searches in
+    private final TreeMap<Long, Integer> entries = new TreeMap<>();
+
+    public OpeningBookBuilder(int size, int maxPly, long msPerPosition, int bot) {
+        this.board = new BitBoard(size);
+        this.search = new Search(board, new TranspositionTable(HASH_MB));
+        this.search.setEvaluator(OpenLinesEvaluator.forLineLength(board.getLineLength()));
+        this.symmetry = Symmetry.forSize(size);
+        this.maxPly = maxPly;
+        this.msPerPosition = msPerPosition;
+        this.bot = bot;
+    }
+
+    public void build() {
+        board.reset();
+        expand(BitBoard.X);
+    }
+
+    private void expand(int player) {
+        if (board.getMoveCount() > maxPly || board.isFull()) return;
+
+        if (player != bot) {
+            // Any reply the player might choose, once per symmetry class
+            Set<Long> seen = new HashSet<>();
+            for (int cell = 0; cell < board.getCells(); cell++) {
+                if (!board.isEmpty(cell)) continue;
+                boolean won = board.make(cell, player);
+                if (!won && seen.add(board.getCanonicalHash())) {
+                    expand(1 - player);
+                }
+                board.unmake(cell);
+            }
+            return;
+        }
+
+        // Symmetric positions were already expanded through another move order
+        long key = OpeningBook.key(board, player);
+        if (entries.containsKey(key)) return;
+
+        int move = search.findBestMove(player, board.getCells(), msPerPosition);
+        if (move == -1) return;
+        int stored = symmetry.apply(board.getCanonicalSymmetry(), move);
+        int score = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, search.getLastScore()));
+        entries.put(key, (stored << 16) | (score & 0xFFFF));
+        System.out.printf("  ply %d: %d entries, move %d score %d depth %d%n",
+                board.getMoveCount(), entries.size(), move, score, search.getCompletedDepth());
+
+        if (!board.make(move, player)) {
+            expand(1 - player);
+        }
+        board.unmake(move);
+    }
+
+    public void write(Path file) throws IOException {
+        ByteBuffer data = ByteBuffer.allocate(entries.size() * OpeningBook.ENTRY_BYTES);
+        for (Map.Entry<Long, Integer> entry : entries.entrySet()) {
+            int packed = entry.getValue();
+            data.putLong(entry.getKey()).putShort((short) (packed >>> 16)).putShort((short) packed);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data.array());
+
+        ByteBuffer out = ByteBuffer.allocate(OpeningBook.HEADER_BYTES + data.capacity());
+        out.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION)
+                .putInt(board.getSize()).putInt(entries.size())
+                .putLong(crc.getValue()).put(data.array());
+
+        // Same temp-then-move as the tablebase so a crash never leaves half a book behind
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    // 4x4 is cheap enough to cover three bot moves; 5x5 and 6x6 get two
+    static int defaultMaxPly(int size) {
+        return size <= 4 ? 5 : 3;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0 ? new int[]{Integer.parseInt(args[0])} : new int[]{4, 5, 6};
+        long ms = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_MS_PER_POSITION;
+        String directory = args.length > 3 ? args[3] : OpeningBook.DIRECTORY;
+
+        for (int size : sizes) {
+            int maxPly = args.length > 1 ? Integer.parseInt(args[1]) : defaultMaxPly(size);
+            System.out.printf("Building %dx%d book: bot plays O, up to ply %d, %d ms per position%n",
+                    size, size, maxPly, ms);
+            long start = System.nanoTime();
+
+            OpeningBookBuilder builder = new OpeningBookBuilder(size, maxPly, ms, BitBoard.O);
+            builder.build();
+            Path file = Paths.get(directory, OpeningBook.fileName(size));
+            builder.write(file);
+
+            System.out.printf("Wrote %s: %d entries in %.0f s%n", file.toAbsolutePath(),
+                    builder.getEntryCount(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
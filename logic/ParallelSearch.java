@@ -0,0 +1,223 @@
+package tictactoe.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelSearch {
+
+    private static final int INF = 1_000_000;
+
+    private final int threads;
+    private final ForkJoinPool pool;
+
+    // One board copy and search per worker, rebuilt when the board size changes
+    private BitBoard[] boards;
+    private Search[] workers;
+    private TranspositionTable workerTable;
+    private int[] rootMoves;
+    private Evaluator evaluator;
+    private AtomicBoolean stopFlag;
+
+    // Single-threaded searches run directly on the caller's board
+    private Search single;
+    private BitBoard singleBoard;
+
+    // Stripe tasks are built once; each iteration only updates what they read
+    private List<Callable<Void>> stripes;
+    private final AtomicInteger alpha = new AtomicInteger();
+    private int stripeCount;
+    private int stripeDepth;
+    private int stripePlayer;
+
+    private int lastScore;
+    private int completedDepth;
+    private long nodes;
+    private long cutoffs;
+    private long tableProbes;
+    private long tableHits;
+
+    // Best move of the iteration in progress; ties go to the earlier root move
+    private int iterationBestIndex;
+    private int iterationBestScore;
+
+    public ParallelSearch(int threads) {
+        this.threads = Math.max(1, threads);
+        this.pool = this.threads > 1 ? new ForkJoinPool(this.threads) : null;
+    }
+
+    /**
+     * Root-splitting iterative deepening: the first root move is searched alone to
+     * set a bound, then the rest are split across the pool against that bound.
+     * With one thread this is exactly {@link Search#findBestMove(int, int, long)}.
+     */
+    public int findBestMove(BitBoard board, TranspositionTable table, int player, int maxDepth, long timeBudgetMs) {
+        if (threads == 1) {
+            // Buffers are sized to the board, so keep the search while the board is the same
+            if (single == null || singleBoard != board || workerTable != table) {
+                single = new Search(board, table);
+                singleBoard = board;
+                workerTable = table;
+            }
+            Search search = single;
+            search.setEvaluator(evaluator);
+            search.setStopFlag(stopFlag);
+            int move = search.findBestMove(player, maxDepth, timeBudgetMs);
+            lastScore = search.getLastScore();
+            completedDepth = search.getCompletedDepth();
+            nodes = search.getNodes();
+            cutoffs = search.getCutoffs();
+            tableProbes = search.getTableProbes();
+            tableHits = search.getTableHits();
+            return move;
+        }
+
+        prepareWorkers(board, table);
+        long deadline = timeBudgetMs > 0 ? System.nanoTime() + timeBudgetMs * 1_000_000L : Long.MAX_VALUE;
+        for (int t = 0; t < threads; t++) {
+            workers[t].beginSearch(deadline);
+        }
+        if (table != null) table.newSearch();
+
+        int cells = board.getCells();
+        maxDepth = Math.min(maxDepth, cells - board.getMoveCount());
+        completedDepth = 0;
+
+        int bestMove = -1;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            int count = workers[0].rootMoves(player, bestMove, rootMoves);
+            if (count == 0) break;
+
+            // Principal move first, on its own, to get a bound for everything else
+            iterationBestIndex = 0;
+            iterationBestScore = workers[0].searchMove(rootMoves[0], player, depth, -INF, INF);
+            if (workers[0].isAborted()) break;
+
+            alpha.set(iterationBestScore);
+            stripeCount = count;
+            stripeDepth = depth;
+            stripePlayer = player;
+            pool.invokeAll(stripes);
+
+            if (anyAborted()) break;
+
+            bestMove = rootMoves[iterationBestIndex];
+            lastScore = iterationBestScore;
+            completedDepth = depth;
+
+            if (Math.abs(lastScore) >= Search.WIN - cells) break;
+        }
+
+        nodes = 0;
+        cutoffs = 0;
+        tableProbes = 0;
+        tableHits = 0;
+        for (Search worker : workers) {
+            nodes += worker.getNodes();
+            cutoffs += worker.getCutoffs();
+            tableProbes += worker.getTableProbes();
+            tableHits += worker.getTableHits();
+        }
+        if (bestMove == -1) {
+            // Not even one iteration finished; fall back to the best-ordered move
+            bestMove = workers[0].rootMoves(player, -1, rootMoves) > 0 ? rootMoves[0] : -1;
+        }
+        return bestMove;
+    }
+
+    // Every threads-th root move after the first, searched against the shared bound
+    private Void searchStripe(int worker) {
+        for (int i = 1 + worker; i < stripeCount; i += threads) {
+            int bound = alpha.get();
+            int score = workers[worker].searchMove(rootMoves[i], stripePlayer, stripeDepth, bound, INF);
+            if (workers[worker].isAborted()) return null;
+            if (score > bound) {
+                record(i, score);
+                alpha.accumulateAndGet(score, Math::max);
+            }
+        }
+        return null;
+    }
+
+    private synchronized void record(int index, int score) {
+        if (score > iterationBestScore || (score == iterationBestScore && index < iterationBestIndex)) {
+            iterationBestScore = score;
+            iterationBestIndex = index;
+        }
+    }
+
+    private boolean anyAborted() {
+        for (Search worker : workers) {
+            if (worker.isAborted()) return true;
+        }
+        return false;
+    }
+
+    private void prepareWorkers(BitBoard board, TranspositionTable table) {
+        if (boards == null || boards[0].getLines() != board.getLines() || workerTable != table) {
+            boards = new BitBoard[threads];
+            workers = new Search[threads];
+            for (int t = 0; t < threads; t++) {
+                boards[t] = new BitBoard(board.getSize(), board.getLineLength());
+                workers[t] = new Search(boards[t], table);
+            }
+            workerTable = table;
+            rootMoves = new int[board.getCells()];
+            stripes = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                final int worker = t;
+                stripes.add(() -> searchStripe(worker));
+            }
+        }
+        for (int t = 0; t < threads; t++) {
+            boards[t].copyFrom(board);
+            workers[t].setEvaluator(evaluator);
+            workers[t].setStopFlag(stopFlag);
+        }
+    }
+
+    // Applies to every worker from the next search on
+    public void setEvaluator(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    // Raising the flag ends the current search at the next clock check in every worker
+    public void setStopFlag(AtomicBoolean stopFlag) {
+        this.stopFlag = stopFlag;
+    }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getLastScore() {
+        return lastScore;
+    }
+
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    public long getTableProbes() {
+        return tableProbes;
+    }
+
+    public long getTableHits() {
+        return tableHits;
+    }
+}
@@ -0,0 +1,354 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Search {
+
+    // Scores are from the side to move; a win found at ply p scores WIN - p
+    public static final int WIN = 1000;
+    private static final int INF = 1_000_000;
+
+    // Heuristic scores stay well clear of anything that looks like a forced result
+    private static final int MAX_EVAL = WIN / 4;
+
+    // Move ordering weights
+    private static final int ORDER_HASH_MOVE = 1 << 25;
+    private static final int ORDER_PREVIOUS_BEST = 1 << 24;
+    private static final int ORDER_WIN = 1 << 20;
+    private static final int ORDER_BLOCK = 1 << 18;
+    private static final int ORDER_THREAT = 1 << 10;
+
+    private final BitBoard board;
+    private final TranspositionTable table;
+    private final Symmetry symmetry;
+    private final WinLines lines;
+    private final int cells;
+    private final int lineLength;
+
+    // Static preference for cells on many lines and close to the centre
+    private final int[] centreScore;
+
+    // Per-ply buffers so the search itself never allocates
+    private final int[][] moveBuffer;
+    private final int[][] orderBuffer;
+
+    // Root moves that are mirror images of a lower-numbered root move
+    private final boolean[] rootDuplicate;
+
+    // How often (in nodes) the clock is read
+    private static final int CLOCK_CHECK_MASK = 255;
+
+    // Scores positions at the depth limit; null treats them as draws
+    private Evaluator evaluator;
+
+    private int previousBest = -1;
+    private int rootBestMove = -1;
+    private int lastScore;
+    private int completedDepth;
+    private long nodes;
+
+    // Plain counters, cheap enough to keep on in every search
+    private long cutoffs;
+    private long tableProbes;
+    private long tableHits;
+
+    private long deadline;
+    private boolean aborted;
+
+    // Raised by another thread to end the search early, read along with the clock
+    private AtomicBoolean stopFlag;
+
+    public Search(BitBoard board) {
+        this(board, null);
+    }
+
+    // The table may be shared between searches and moves; null searches without one
+    public Search(BitBoard board, TranspositionTable table) {
+        this.board = board;
+        this.table = table;
+        this.symmetry = Symmetry.forSize(board.getSize());
+        this.lines = board.getLines();
+        this.cells = board.getCells();
+        this.lineLength = lines.getLineLength();
+        this.centreScore = new int[cells];
+        this.moveBuffer = new int[cells + 1][cells];
+        this.orderBuffer = new int[cells + 1][cells];
+        this.rootDuplicate = new boolean[cells];
+
+        int size = board.getSize();
+        for (int cell = 0; cell < cells; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            int distance = Math.abs(2 * row - (size - 1)) + Math.abs(2 * col - (size - 1));
+            centreScore[cell] = lines.getLinesThrough(cell).length * 16 - distance;
+        }
+    }
+
+    /**
+     * Iterative deepening alpha-beta from the current position.
+     * @param player side to move (BitBoard.X or BitBoard.O)
+     * @param maxDepth plies to look ahead at most
+     * @return best cell, or -1 if the board is full
+     */
+    public int findBestMove(int player, int maxDepth) {
+        return findBestMove(player, maxDepth, 0);
+    }
+
+    /**
+     * Iterative deepening under a wall-clock budget. The move returned always comes
+     * from the deepest iteration that finished before time ran out.
+     * @param timeBudgetMs 0 for no limit
+     */
+    public int findBestMove(int player, int maxDepth, long timeBudgetMs) {
+        int remaining = cells - board.getMoveCount();
+        maxDepth = Math.min(maxDepth, remaining);
+        previousBest = -1;
+        completedDepth = 0;
+        resetCounters();
+        aborted = false;
+        deadline = timeBudgetMs > 0 ? System.nanoTime() + timeBudgetMs * 1_000_000L : Long.MAX_VALUE;
+        if (table != null) table.newSearch();
+        markRootDuplicates();
+
+        int bestMove = -1;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            rootBestMove = -1;
+            int score = negamax(player, depth, 0, -INF, INF);
+            if (aborted) {
+                // Nothing completed yet: the partial first iteration is better than no move
+                if (bestMove == -1) bestMove = rootBestMove;
+                break;
+            }
+            lastScore = score;
+            bestMove = rootBestMove;
+            previousBest = bestMove;
+            completedDepth = depth;
+
+            // A proven result will not change with more depth
+            if (Math.abs(lastScore) >= WIN - cells) break;
+        }
+        return bestMove;
+    }
+
+    private int negamax(int player, int depth, int ply, int alpha, int beta) {
+        if ((++nodes & CLOCK_CHECK_MASK) == 0
+                && (System.nanoTime() >= deadline || (stopFlag != null && stopFlag.get()))) {
+            aborted = true;
+        }
+        if (aborted) return 0;
+
+        // Symmetric positions share one entry; moves are stored in the canonical frame
+        long hash = board.getCanonicalHash() ^ (player == BitBoard.O ? Zobrist.SIDE : 0L);
+        int sym = board.getCanonicalSymmetry();
+        int hashMove = -1;
+        if (table != null) {
+            long entry = table.probe(hash);
+            tableProbes++;
+            if (entry != TranspositionTable.MISS) {
+                tableHits++;
+                int stored = TranspositionTable.move(entry);
+                if (stored >= 0 && stored < cells) hashMove = symmetry.invert(sym, stored);
+                if (ply > 0 && TranspositionTable.depth(entry) >= depth) {
+                    int score = fromTable(TranspositionTable.score(entry), ply);
+                    int bound = TranspositionTable.bound(entry);
+                    if (bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER && score >= beta)
+                            || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        int count = generateMoves(player, ply, hashMove);
+        if (count == 0) return 0;
+
+        int[] moves = moveBuffer[ply];
+        int alphaOrig = alpha;
+        int best = -INF;
+        int bestMove = -1;
+        for (int i = 0; i < count; i++) {
+            int cell = moves[i];
+            int score;
+            if (board.make(cell, player)) {
+                score = WIN - (ply + 1);
+            } else if (board.isFull()) {
+                score = 0;
+            } else if (depth <= 1) {
+                score = -evaluate(1 - player);
+            } else {
+                score = -negamax(1 - player, depth - 1, ply + 1, -beta, -alpha);
+            }
+            board.unmake(cell);
+            if (aborted) return 0;
+
+            if (score > best) {
+                best = score;
+                bestMove = cell;
+                if (ply == 0) rootBestMove = cell;
+            }
+            if (best > alpha) alpha = best;
+            if (alpha >= beta) {
+                cutoffs++;
+                break;
+            }
+        }
+
+        if (table != null) {
+            int bound = best <= alphaOrig ? TranspositionTable.UPPER
+                    : best >= beta ? TranspositionTable.LOWER
+                    : TranspositionTable.EXACT;
+            int stored = bestMove < 0 ? -1 : symmetry.apply(sym, bestMove);
+            table.store(hash, depth, bound, toTable(best, ply), stored);
+        }
+        return best;
+    }
+
+    private int evaluate(int player) {
+        if (evaluator == null) return 0;
+        int score = evaluator.evaluate(board, player);
+        return Math.max(-MAX_EVAL, Math.min(MAX_EVAL, score));
+    }
+
+    // Win scores are stored relative to the node so they stay valid at any ply
+    private int toTable(int score, int ply) {
+        if (score >= WIN - cells) return score + ply;
+        if (score <= -(WIN - cells)) return score - ply;
+        return score;
+    }
+
+    private int fromTable(int score, int ply) {
+        if (score >= WIN - cells) return score - ply;
+        if (score <= -(WIN - cells)) return score + ply;
+        return score;
+    }
+
+    // Fills moveBuffer[ply] with the board's candidate cells, most promising first
+    private int generateMoves(int player, int ply, int hashMove) {
+        int[] moves = moveBuffer[ply];
+        int[] order = orderBuffer[ply];
+        int opponent = 1 - player;
+        int count = 0;
+
+        CellSet candidates = board.getCandidates();
+        for (int i = 0; i < candidates.size(); i++) {
+            int cell = candidates.get(i);
+            if (ply == 0 && rootDuplicate[cell]) continue;
+
+            int score = centreScore[cell];
+            for (int line : lines.getLinesThrough(cell)) {
+                int own = board.getLineStones(player, line);
+                int theirs = board.getLineStones(opponent, line);
+                if (theirs == 0) {
+                    if (own == lineLength - 1) score += ORDER_WIN;
+                    else if (own == lineLength - 2) score += ORDER_THREAT;
+                } else if (own == 0 && theirs == lineLength - 1) {
+                    score += ORDER_BLOCK;
+                }
+            }
+            if (cell == hashMove) score += ORDER_HASH_MOVE;
+            if (ply == 0 && cell == previousBest) score += ORDER_PREVIOUS_BEST;
+
+            // Insertion sort: boards are small enough that this beats anything fancier
+            int j = count++;
+            while (j > 0 && order[j - 1] < score) {
+                moves[j] = moves[j - 1];
+                order[j] = order[j - 1];
+                j--;
+            }
+            moves[j] = cell;
+            order[j] = score;
+        }
+        return count;
+    }
+
+    /* ---------------- Root splitting (used by ParallelSearch) ---------------- */
+
+    // Resets counters for a search driven from outside; the caller owns table.newSearch()
+    void beginSearch(long deadline) {
+        this.deadline = deadline;
+        this.aborted = false;
+        resetCounters();
+        markRootDuplicates();
+    }
+
+    // Ordered, symmetry-reduced root moves with the preferred move first
+    int rootMoves(int player, int preferred, int[] out) {
+        previousBest = preferred;
+        int count = generateMoves(player, 0, -1);
+        System.arraycopy(moveBuffer[0], 0, out, 0, count);
+        return count;
+    }
+
+    // Score of one root move from the mover's point of view, searched to the given depth
+    int searchMove(int cell, int player, int depth, int alpha, int beta) {
+        int score;
+        if (board.make(cell, player)) {
+            score = WIN - 1;
+        } else if (board.isFull()) {
+            score = 0;
+        } else if (depth <= 1) {
+            score = -evaluate(1 - player);
+        } else {
+            score = -negamax(1 - player, depth - 1, 1, -beta, -alpha);
+        }
+        board.unmake(cell);
+        return score;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    private void resetCounters() {
+        nodes = 0;
+        cutoffs = 0;
+        tableProbes = 0;
+        tableHits = 0;
+    }
+
+    // Keep one root move per orbit of the symmetries that leave the position unchanged
+    private void markRootDuplicates() {
+        Arrays.fill(rootDuplicate, false);
+        for (int sym = 1; sym < Symmetry.COUNT; sym++) {
+            if (!board.isInvariant(sym)) continue;
+            for (int cell = 0; cell < cells; cell++) {
+                if (symmetry.apply(sym, cell) < cell) rootDuplicate[cell] = true;
+            }
+        }
+    }
+
+    public void setEvaluator(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    // Null searches until the depth or time limit
+    public void setStopFlag(AtomicBoolean stopFlag) {
+        this.stopFlag = stopFlag;
+    }
+
+    public int getLastScore() {
+        return lastScore;
+    }
+
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    public long getTableProbes() {
+        return tableProbes;
+    }
+
+    public long getTableHits() {
+        return tableHits;
+    }
+}
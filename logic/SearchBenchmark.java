@@ -0,0 +1,67 @@
+package tictactoe.logic;
+
+/**
+ * Speedup curve of the parallel Hard search.
+ * Usage: java tictactoe.logic.SearchBenchmark [boardSize] [depth] [threads...]
+ */
+public class SearchBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int[] threadCounts = {1, 2, 4, 8, 16};
+        if (args.length > 2) {
+            threadCounts = new int[args.length - 2];
+            for (int i = 2; i < args.length; i++) {
+                threadCounts[i - 2] = Integer.parseInt(args[i]);
+            }
+        }
+
+        // Fixed openings so every thread count searches the same trees
+        int cells = size * size;
+        int[][] openings = {
+                {},
+                {0},
+                {cells / 2},
+                {0, cells / 2},
+                {size + 1, cells - 1}
+        };
+
+        System.out.printf("Board %dx%d, depth %d, %d cores available%n",
+                size, size, depth, Runtime.getRuntime().availableProcessors());
+        System.out.println("threads      ms        nodes    nodes/s  speedup");
+
+        // One untimed pass of every configuration first, so the baseline isn't the cold JIT
+        for (int threads : threadCounts) {
+            run(threads, size, depth, openings);
+        }
+
+        double baseline = 0;
+        for (int threads : threadCounts) {
+            long start = System.nanoTime();
+            long totalNodes = run(threads, size, depth, openings);
+            double ms = (System.nanoTime() - start) / 1e6;
+            if (baseline == 0) baseline = ms;
+            System.out.printf("%7d %7.0f %12d %10.0f %7.2fx%n",
+                    threads, ms, totalNodes, totalNodes / (ms / 1000), baseline / ms);
+        }
+    }
+
+    // Searches every opening once with the given thread count; returns the nodes visited
+    private static long run(int threads, int size, int depth, int[][] openings) {
+        ParallelSearch search = new ParallelSearch(threads);
+        long totalNodes = 0;
+        for (int[] opening : openings) {
+            BitBoard board = new BitBoard(size);
+            for (int i = 0; i < opening.length; i++) {
+                board.make(opening[i], i % 2 == 0 ? BitBoard.X : BitBoard.O);
+            }
+            int player = opening.length % 2 == 0 ? BitBoard.X : BitBoard.O;
+            // Fresh table per position so runs don't feed each other
+            search.findBestMove(board, new TranspositionTable(16), player, depth, 0);
+            totalNodes += search.getNodes();
+        }
+        search.shutdown();
+        return totalNodes;
+    }
+}
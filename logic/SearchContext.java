@@ -0,0 +1,157 @@
+package tictactoe.logic;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Everything one thread needs to answer bot moves: a private copy of the position and
+ * the searches bound to it. Built once per thread and rule set, then reused, so after
+ * the first move on a board the engine allocates nothing.
+ */
+class SearchContext {
+
+    // Reseeded from the game's seed before every move, so a game replays exactly from
+    // its seed whatever else (pondering, other games) this thread did in between
+    private final Random random = new Random();
+    private long gameSeed = new Random().nextLong();
+
+    private BitBoard board;
+    private int[] moves;
+    private ThreatSearch threats;
+
+    private int threads;
+    private ParallelSearch parallelSearch;
+    private MctsEngine mctsEngine;
+    private AtomicBoolean stopFlag;
+
+    // This thread's Hard searches share it, so positions carry over between moves
+    private TranspositionTable table;
+    private int tableMb;
+
+    // Filled in by the last move this context answered
+    private final SearchStats stats = new SearchStats();
+
+    // Result of the last ponder: the position searched and what the search found there
+    private String ponderDifficulty;
+    private WinLines ponderLines;
+    private long ponderHash;
+    private int ponderMoveCount;
+    private int ponderPlayer;
+    private int ponderMove = -1;
+    private long ponderMillis;
+
+    // Copies the live position in; per-rules state is only rebuilt when the rules change
+    BitBoard load(BitBoard source) {
+        if (board == null || board.getLines() != source.getLines()) {
+            board = new BitBoard(source.getSize(), source.getLineLength());
+            moves = new int[source.getCells()];
+            threats = new ThreatSearch(board);
+        }
+        board.copyFrom(source);
+        return board;
+    }
+
+    // Handed to every search this context runs until the next call
+    void setStopFlag(AtomicBoolean stopFlag) {
+        this.stopFlag = stopFlag;
+        if (threats != null) threats.setStopFlag(stopFlag);
+    }
+
+    // Drops what the searches kept from earlier moves
+    void clearSearches() {
+        if (table != null) table.clear();
+        if (mctsEngine != null) mctsEngine.clearTree();
+        clearPonder();
+    }
+
+    void setPonderResult(String difficulty, BitBoard board, int player, int move, long millis) {
+        ponderDifficulty = difficulty;
+        ponderLines = board.getLines();
+        ponderHash = board.getHash();
+        ponderMoveCount = board.getMoveCount();
+        ponderPlayer = player;
+        ponderMove = move;
+        ponderMillis = millis;
+    }
+
+    // True if the last ponder searched this position for the same bot
+    boolean isPonderHit(String difficulty, BitBoard board, int player) {
+        return ponderDifficulty != null
+                && ponderDifficulty.equals(difficulty)
+                && ponderLines == board.getLines()
+                && ponderHash == board.getHash()
+                && ponderMoveCount == board.getMoveCount()
+                && ponderPlayer == player;
+    }
+
+    int getPonderMove() {
+        return ponderMove;
+    }
+
+    long getPonderMillis() {
+        return ponderMillis;
+    }
+
+    void clearPonder() {
+        ponderDifficulty = null;
+        ponderMove = -1;
+        ponderMillis = 0;
+    }
+
+    SearchStats getStats() {
+        return stats;
+    }
+
+    void setGameSeed(long seed) {
+        gameSeed = seed;
+    }
+
+    void seedMove(BitBoard board) {
+        random.setSeed(gameSeed ^ (board.getMoveCount() * 0x9E3779B97F4A7C15L));
+    }
+
+    Random getRandom() {
+        return random;
+    }
+
+    int[] getMoveBuffer() {
+        return moves;
+    }
+
+    ThreatSearch getThreatSearch() {
+        return threats;
+    }
+
+    ParallelSearch getParallelSearch(int count) {
+        useThreads(count);
+        if (parallelSearch == null) parallelSearch = new ParallelSearch(threads);
+        parallelSearch.setStopFlag(stopFlag);
+        return parallelSearch;
+    }
+
+    // Rebuilt (empty) when the size setting changes
+    TranspositionTable getTable(int megabytes) {
+        if (table == null || tableMb != megabytes) {
+            table = new TranspositionTable(megabytes);
+            tableMb = megabytes;
+        }
+        return table;
+    }
+
+    // Kept between moves so the tree from the last search can be reused
+    MctsEngine getMctsEngine(int count) {
+        useThreads(count);
+        if (mctsEngine == null) mctsEngine = new MctsEngine(threads, MctsEngine.DEFAULT_CAPACITY, random);
+        mctsEngine.setStopFlag(stopFlag);
+        return mctsEngine;
+    }
+
+    private void useThreads(int count) {
+        if (count == threads) return;
+        threads = count;
+        if (parallelSearch != null) parallelSearch.shutdown();
+        if (mctsEngine != null) mctsEngine.shutdown();
+        parallelSearch = null;
+        mctsEngine = null;
+    }
+}
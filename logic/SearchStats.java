@@ -0,0 +1,104 @@
+package tictactoe.logic;
+
+/**
+ * What one bot move cost and how it was found. The searches keep these counters
+ * anyway, so collecting them is always on; BotAI reuses one instance per thread.
+ */
+public class SearchStats {
+
+    private String source = "";
+    private long nodes;
+    private int depth;
+    private long cutoffs;
+    private long tableProbes;
+    private long tableHits;
+    private long nanos;
+
+    void reset() {
+        source = "";
+        nodes = 0;
+        depth = 0;
+        cutoffs = 0;
+        tableProbes = 0;
+        tableHits = 0;
+        nanos = 0;
+    }
+
+    // Which part of the engine produced the move: "book", "alpha-beta", "mcts", ...
+    void setSource(String source) {
+        this.source = source;
+    }
+
+    void addNodes(long count) {
+        nodes += count;
+    }
+
+    void addSearch(ParallelSearch search) {
+        nodes += search.getNodes();
+        depth = Math.max(depth, search.getCompletedDepth());
+        cutoffs += search.getCutoffs();
+        tableProbes += search.getTableProbes();
+        tableHits += search.getTableHits();
+    }
+
+    void setNanos(long nanos) {
+        this.nanos = nanos;
+    }
+
+    public SearchStats copy() {
+        SearchStats copy = new SearchStats();
+        copy.source = source;
+        copy.nodes = nodes;
+        copy.depth = depth;
+        copy.cutoffs = cutoffs;
+        copy.tableProbes = tableProbes;
+        copy.tableHits = tableHits;
+        copy.nanos = nanos;
+        return copy;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    // Positions examined; Master counts playouts
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNodesPerSecond() {
+        return nanos == 0 ? 0 : Math.round(nodes * 1e9 / nanos);
+    }
+
+    // Deepest completed alpha-beta iteration, 0 if the move did not come from one
+    public int getDepth() {
+        return depth;
+    }
+
+    // Beta cutoffs: moves left unsearched because a sibling already refuted the line
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    public long getTableProbes() {
+        return tableProbes;
+    }
+
+    public long getTableHits() {
+        return tableHits;
+    }
+
+    public double getTableHitRate() {
+        return tableProbes == 0 ? 0 : (double) tableHits / tableProbes;
+    }
+
+    public double getTimeMs() {
+        return nanos / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.0f ms, %,d nodes (%,d/s), depth %d, %,d cutoffs, %.0f%% table hits",
+                source, getTimeMs(), nodes, getNodesPerSecond(), depth, cutoffs, 100 * getTableHitRate());
+    }
+}
@@ -0,0 +1,59 @@
+package tictactoe.logic;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Symmetry {
+
+    // The 8 symmetries of a square: 4 rotations, each with and without a mirror
+    public static final int COUNT = 8;
+    public static final int IDENTITY = 0;
+
+    private static final ConcurrentHashMap<Integer, Symmetry> CACHE = new ConcurrentHashMap<>();
+
+    private final int[][] forward;
+    private final int[][] inverse;
+
+    private Symmetry(int size) {
+        int cells = size * size;
+        forward = new int[COUNT][cells];
+        inverse = new int[COUNT][cells];
+
+        for (int cell = 0; cell < cells; cell++) {
+            int r = cell / size;
+            int c = cell % size;
+            int m = size - 1;
+            int[] images = {
+                    r * size + c,             // identity
+                    c * size + (m - r),       // rotate 90
+                    (m - r) * size + (m - c), // rotate 180
+                    (m - c) * size + r,       // rotate 270
+                    r * size + (m - c),       // mirror left-right
+                    (m - r) * size + c,       // mirror top-bottom
+                    c * size + r,             // main diagonal
+                    (m - c) * size + (m - r)  // anti-diagonal
+            };
+            for (int s = 0; s < COUNT; s++) {
+                forward[s][cell] = images[s];
+                inverse[s][images[s]] = cell;
+            }
+        }
+    }
+
+    public static Symmetry forSize(int size) {
+        return CACHE.computeIfAbsent(size, Symmetry::new);
+    }
+
+    // Where the cell lands under symmetry s
+    public int apply(int s, int cell) {
+        return forward[s][cell];
+    }
+
+    // The cell that lands on the given one under symmetry s
+    public int invert(int s, int cell) {
+        return inverse[s][cell];
+    }
+
+    public int[] getPermutation(int s) {
+        return forward[s];
+    }
+}
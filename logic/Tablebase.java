@@ -0,0 +1,191 @@
+package tictactoe.logic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Perfect play for 3x3: every reachable position solved once and stored as one byte,
+ * indexed by the base-3 encoding of the board (empty 0, X 1, O 2). The file is built
+ * offline by {@link #main} and ships next to the opening books.
+ */
+public class Tablebase {
+
+    public static final String FILE_NAME = "tablebase_3x3.bin";
+    private static final String RESOURCE = "/tictactoe/book/" + FILE_NAME;
+
+    private static final int SIZE = 3;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int POSITIONS = 19683; // 3^9
+
+    // Header: magic, entry count, CRC32 of the entries
+    private static final int MAGIC = 0x54544231; // "TTB1"
+    private static final int HEADER_BYTES = 16;
+
+    // Entry: valid(1) | unused(1) | value(2) | move(4); 0 means no move (terminal or unreachable)
+    private static final int VALID = 0x80;
+    public static final int LOSS = 0;
+    public static final int DRAW = 1;
+    public static final int WIN = 2;
+
+    private static final int[] POW3 = {1, 3, 9, 27, 81, 243, 729, 2187, 6561};
+
+    private static MappedByteBuffer entries;
+    private static boolean attempted;
+
+    /**
+     * Best move for the side to move (taken from the stone counts), or -1 if the table
+     * is unavailable and the caller should search instead.
+     */
+    public static int probe(BitBoard board) {
+        if (board.getSize() != SIZE) return -1;
+        ByteBuffer table = open();
+        if (table == null) return -1;
+
+        int entry = table.get(HEADER_BYTES + index(board)) & 0xFF;
+        if ((entry & VALID) == 0) return -1;
+
+        int move = entry & 0x0F;
+        return board.isEmpty(move) ? move : -1;
+    }
+
+    // WIN, DRAW or LOSS for the side to move, or -1 if unknown
+    public static int value(BitBoard board) {
+        if (board.getSize() != SIZE) return -1;
+        ByteBuffer table = open();
+        if (table == null) return -1;
+
+        int entry = table.get(HEADER_BYTES + index(board)) & 0xFF;
+        return (entry & VALID) == 0 ? -1 : (entry >> 4) & 0x3;
+    }
+
+    private static int index(BitBoard board) {
+        int index = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            index += (board.get(cell) + 1) * POW3[cell];
+        }
+        return index;
+    }
+
+    // Maps the file on first use: the book directory first, then the classpath
+    private static synchronized ByteBuffer open() {
+        if (attempted) return entries;
+        attempted = true;
+
+        try {
+            Path file = Paths.get(OpeningBook.DIRECTORY, FILE_NAME);
+            if (!Files.exists(file)) {
+                file = extractResource();
+                if (file == null) throw new IOException(FILE_NAME + " not found");
+            }
+            entries = map(file);
+        } catch (IOException e) {
+            System.err.println("3x3 tablebase unavailable, using search: " + e.getMessage());
+            entries = null;
+        }
+        return entries;
+    }
+
+    // Same as the opening books: a resource inside a jar has to be copied out to be mapped
+    private static Path extractResource() throws IOException {
+        try (InputStream in = Tablebase.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) return null;
+            Path temp = Files.createTempFile("tablebase_3x3", ".bin");
+            temp.toFile().deleteOnExit();
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return temp;
+        }
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_BYTES + POSITIONS) {
+                throw new IOException("unexpected size " + channel.size());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != POSITIONS) {
+                throw new IOException("bad header");
+            }
+            CRC32 crc = new CRC32();
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(HEADER_BYTES);
+            crc.update(payload);
+            if (buffer.getLong(8) != crc.getValue()) {
+                throw new IOException("checksum mismatch");
+            }
+            return buffer;
+        }
+    }
+
+    /* ---------------------------- GENERATOR ---------------------------- */
+
+    public static void generate(Path file) throws IOException {
+        byte[] table = new byte[POSITIONS];
+        byte[] scores = new byte[POSITIONS];
+        boolean[] solved = new boolean[POSITIONS];
+        solve(new BitBoard(SIZE), 0, BitBoard.X, table, scores, solved);
+
+        CRC32 crc = new CRC32();
+        crc.update(table);
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + POSITIONS);
+        out.putInt(MAGIC).putInt(POSITIONS).putLong(crc.getValue()).put(table);
+
+        // Write to a temp file first so a crash never leaves a half-written table behind
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Negamax over every reachable position; a win in fewer moves scores higher
+    private static int solve(BitBoard board, int index, int player,
+                             byte[] table, byte[] scores, boolean[] solved) {
+        if (solved[index]) return scores[index];
+
+        int best = Integer.MIN_VALUE;
+        int bestMove = -1;
+        for (int cell = 0; cell < CELLS; cell++) {
+            if (!board.isEmpty(cell)) continue;
+
+            int child = index + (player + 1) * POW3[cell];
+            int score;
+            if (board.make(cell, player)) {
+                score = 10;
+            } else if (board.isFull()) {
+                score = 0;
+            } else {
+                score = -solve(board, child, 1 - player, table, scores, solved);
+                if (score > 0) score--;
+                else if (score < 0) score++;
+            }
+            board.unmake(cell);
+
+            if (score > best) {
+                best = score;
+                bestMove = cell;
+            }
+        }
+
+        int value = best > 0 ? WIN : best < 0 ? LOSS : DRAW;
+        table[index] = (byte) (VALID | (value << 4) | bestMove);
+        scores[index] = (byte) best;
+        solved[index] = true;
+        return best;
+    }
+
+    // Build-time entry point: java tictactoe.logic.Tablebase [file]
+    public static void main(String[] args) throws IOException {
+        Path file = args.length > 0 ? Paths.get(args[0]) : Paths.get(OpeningBook.DIRECTORY, FILE_NAME);
+        generate(file);
+        System.out.println("Wrote " + file.toAbsolutePath() + " (" + Files.size(file) + " bytes)");
+    }
+}
@@ -0,0 +1,180 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Victory by continuous fours (VCF): the attacker only plays moves that threaten to
+ * win next turn, so every defender reply is forced and the tree stays narrow enough
+ * to read sequences far deeper than the general search.
+ *
+ * Threats come from the line windows: a window with k-2 attacker stones and no
+ * defender stones is one move from a four. After the first four, a new threat must
+ * lie on a window through a stone the attacker already gained in this sequence
+ * (the dependency graph of Allis' threat-space search). Independent threats could
+ * be played in any order and are not tried again.
+ */
+public class ThreatSearch {
+
+    private static final int MAX_FOURS = 24;
+    private static final int FAILED_BITS = 14;
+
+    private final BitBoard board;
+    private final WinLines lines;
+    private final int lineLength;
+    private final int words;
+
+    // Per-depth move buffers and the stones gained so far, so the search never allocates
+    private final int[][] moveBuffer;
+    private final long[] gained;
+
+    // Positions in this search already shown to have no VCF for the attacker
+    private final long[] failed = new long[1 << FAILED_BITS];
+
+    private int attacker;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private int sequenceLength;
+    private AtomicBoolean stopFlag;
+
+    public ThreatSearch(BitBoard board) {
+        this.board = board;
+        this.lines = board.getLines();
+        this.lineLength = lines.getLineLength();
+        this.words = lines.getWords();
+        this.moveBuffer = new int[MAX_FOURS + 1][lines.getCells()];
+        this.gained = new long[words];
+    }
+
+    /**
+     * @param player side to move, trying to force a win with fours
+     * @return first move of a forced win, or -1 if none was found within the budget
+     */
+    public int findWin(int player, long timeBudgetMs, long maxNodes) {
+        if (lineLength < 3) return -1;
+        attacker = player;
+        nodes = 0;
+        nodeLimit = maxNodes;
+        deadline = System.nanoTime() + timeBudgetMs * 1_000_000L;
+        sequenceLength = 0;
+        Arrays.fill(gained, 0L);
+        Arrays.fill(failed, 0L);
+
+        // Already four in a row with an open end: just finish it
+        int immediate = winningCell(player);
+        if (immediate != -1) {
+            sequenceLength = 1;
+            return immediate;
+        }
+        return vcf(0);
+    }
+
+    // Returns the attacking move that starts a forced win from here, or -1
+    private int vcf(int depth) {
+        if (depth >= MAX_FOURS || ++nodes > nodeLimit || ((nodes & 255) == 0 && outOfTime())) {
+            return -1;
+        }
+
+        int defender = 1 - attacker;
+        long key = board.getHash() ^ (attacker == BitBoard.O ? Zobrist.SIDE : 0L);
+        int slot = (int) (key >>> (64 - FAILED_BITS));
+        if (failed[slot] == key) return -1;
+
+        int[] moves = moveBuffer[depth];
+        int count = board.getCandidates().copyTo(moves);
+        for (int i = 0; i < count; i++) {
+            int cell = moves[i];
+            if (!makesFour(cell, depth > 0)) continue;
+
+            board.make(cell, attacker);
+            // A four is no threat if the defender can win on the spot instead
+            if (board.getOpenLines(defender, lineLength - 1) > 0) {
+                board.unmake(cell);
+                continue;
+            }
+
+            int reply = -1;
+            boolean doubleFour = false;
+            for (int line : lines.getLinesThrough(cell)) {
+                if (board.getLineStones(attacker, line) == lineLength - 1
+                        && board.getLineStones(defender, line) == 0) {
+                    int gap = board.emptyCellOn(line);
+                    if (reply == -1) {
+                        reply = gap;
+                    } else if (gap != reply) {
+                        doubleFour = true;
+                        break;
+                    }
+                }
+            }
+            if (doubleFour) {
+                board.unmake(cell);
+                sequenceLength = depth * 2 + 3;
+                return cell;
+            }
+
+            // The defender's reply is forced; continue from there with this stone as a gain
+            board.make(reply, defender);
+            gained[cell >>> 6] |= 1L << (cell & 63);
+            int next = board.hasWon(defender) ? -1 : vcf(depth + 1);
+            gained[cell >>> 6] &= ~(1L << (cell & 63));
+            board.unmake(reply);
+            board.unmake(cell);
+            if (next != -1) return cell;
+        }
+
+        failed[slot] = key;
+        return -1;
+    }
+
+    private boolean outOfTime() {
+        return System.nanoTime() > deadline || (stopFlag != null && stopFlag.get());
+    }
+
+    // True if the cell gives the attacker k-1 on some open window (respecting dependencies)
+    private boolean makesFour(int cell, boolean dependent) {
+        int defender = 1 - attacker;
+        for (int line : lines.getLinesThrough(cell)) {
+            if (board.getLineStones(attacker, line) == lineLength - 2
+                    && board.getLineStones(defender, line) == 0
+                    && (!dependent || touchesGain(line))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean touchesGain(int line) {
+        long[] mask = lines.getMask(line);
+        for (int w = 0; w < words; w++) {
+            if ((mask[w] & gained[w]) != 0) return true;
+        }
+        return false;
+    }
+
+    // A cell that completes a window for the player right now, or -1
+    private int winningCell(int player) {
+        if (board.getOpenLines(player, lineLength - 1) == 0) return -1;
+        for (int line = 0; line < lines.getLineCount(); line++) {
+            if (board.getLineStones(player, line) == lineLength - 1
+                    && board.getLineStones(1 - player, line) == 0) {
+                return board.emptyCellOn(line);
+            }
+        }
+        return -1;
+    }
+
+    public void setStopFlag(AtomicBoolean stopFlag) {
+        this.stopFlag = stopFlag;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    // Plies in the last win found, counting both sides
+    public int getSequenceLength() {
+        return sequenceLength;
+    }
+}
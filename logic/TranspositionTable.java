@@ -0,0 +1,104 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+
+    public static final int EXACT = 0;
+    public static final int LOWER = 1;
+    public static final int UPPER = 2;
+
+    // Returned by probe() on a miss; real entries always have the valid bit set
+    public static final long MISS = 0L;
+
+    private static final int ENTRY_BYTES = 16;
+    private static final long VALID = 1L << 63;
+    private static final int MAX_DEPTH = 0xFF;
+
+    // Entry layout: score(16) | depth(8) | bound(2) | move+1(12) | generation(8) | valid(1)
+    private static final int DEPTH_SHIFT = 16;
+    private static final int BOUND_SHIFT = 24;
+    private static final int MOVE_SHIFT = 26;
+    private static final int GEN_SHIFT = 38;
+
+    // Key slots hold hash ^ data, so a torn write from another thread reads as a miss
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private int generation;
+
+    public TranspositionTable(int megabytes) {
+        long entries = Math.max(1L, (long) megabytes * 1024 * 1024 / ENTRY_BYTES);
+        int slots = Integer.highestOneBit((int) Math.min(entries, 1 << 30));
+        this.keys = new long[slots];
+        this.data = new long[slots];
+        this.mask = slots - 1;
+    }
+
+    // Called once per bot move; older entries become the first to be replaced
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    public long probe(long hash) {
+        int index = (int) hash & mask;
+        long entry = data[index];
+        if (entry != MISS && (keys[index] ^ entry) == hash) {
+            return entry;
+        }
+        return MISS;
+    }
+
+    public void store(long hash, int depth, int bound, int score, int move) {
+        // Deeper searches on big boards store as 255 plies, which only under-reports them
+        depth = Math.min(depth, MAX_DEPTH);
+        int index = (int) hash & mask;
+        long old = data[index];
+
+        // Depth-preferred: keep a deeper entry from this search unless it is the same position
+        if (old != MISS
+                && (keys[index] ^ old) != hash
+                && generation(old) == generation
+                && depth(old) > depth) {
+            return;
+        }
+
+        long entry = VALID
+                | ((long) generation << GEN_SHIFT)
+                | ((long) (move + 1) << MOVE_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) depth << DEPTH_SHIFT)
+                | ((score + 32768) & 0xFFFFL);
+        data[index] = entry;
+        keys[index] = hash ^ entry;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, MISS);
+    }
+
+    public static int score(long entry) {
+        return (int) (entry & 0xFFFF) - 32768;
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    public static int bound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 0x3;
+    }
+
+    public static int move(long entry) {
+        return ((int) (entry >>> MOVE_SHIFT) & 0xFFF) - 1;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> GEN_SHIFT) & 0xFF;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,156 @@
+package tictactoe.logic;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The winning lines of an n x n board where k in a row wins. With k == n these are
+ * the rows, columns and two diagonals; with k < n every k-long window in the four
+ * directions is a line of its own.
+ */
+public class WinLines {
+
+    // Boards above this size play 5 in a row instead of filling a whole line
+    public static final int MAX_FULL_LINE_SIZE = 6;
+    public static final int GOMOKU_WIN_LENGTH = 5;
+
+    // Candidate moves on k-in-a-row boards are empty cells this close to a stone
+    public static final int CANDIDATE_RADIUS = 2;
+
+    private static final ConcurrentHashMap<Integer, WinLines> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int winLength;
+    private final int cells;
+    private final int words;
+    private final long[][] masks;
+    private final int[][] cellLines;
+    private final int[][] neighbours;
+
+    private WinLines(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = size * size;
+        this.words = (cells + 63) >>> 6;
+
+        // Rows, then columns, then both diagonal directions
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        int span = winLength - 1;
+        int lineCount = 0;
+        for (int[] d : directions) {
+            lineCount += (size - Math.abs(d[0]) * span) * (size - Math.abs(d[1]) * span);
+        }
+        this.masks = new long[lineCount][words];
+
+        int line = 0;
+        for (int[] d : directions) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int endRow = row + d[0] * span;
+                    int endCol = col + d[1] * span;
+                    if (endRow >= size || endCol < 0 || endCol >= size) continue;
+                    for (int i = 0; i < winLength; i++) {
+                        setBit(masks[line], (row + d[0] * i) * size + (col + d[1] * i));
+                    }
+                    line++;
+                }
+            }
+        }
+
+        // Reverse index: the lines passing through each cell
+        int[] perCell = new int[cells];
+        for (int l = 0; l < lineCount; l++) {
+            for (int cell = 0; cell < cells; cell++) {
+                if (testBit(masks[l], cell)) perCell[cell]++;
+            }
+        }
+        this.cellLines = new int[cells][];
+        for (int cell = 0; cell < cells; cell++) {
+            cellLines[cell] = new int[perCell[cell]];
+            perCell[cell] = 0;
+        }
+        for (int l = 0; l < lineCount; l++) {
+            for (int cell = 0; cell < cells; cell++) {
+                if (testBit(masks[l], cell)) cellLines[cell][perCell[cell]++] = l;
+            }
+        }
+
+        // Cells within CANDIDATE_RADIUS of each cell; only needed on k-in-a-row boards
+        this.neighbours = new int[isSparse() ? cells : 0][];
+        for (int cell = 0; cell < neighbours.length; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            int count = 0;
+            int[] found = new int[(2 * CANDIDATE_RADIUS + 1) * (2 * CANDIDATE_RADIUS + 1)];
+            for (int r = Math.max(0, row - CANDIDATE_RADIUS); r <= Math.min(size - 1, row + CANDIDATE_RADIUS); r++) {
+                for (int c = Math.max(0, col - CANDIDATE_RADIUS); c <= Math.min(size - 1, col + CANDIDATE_RADIUS); c++) {
+                    if (r != row || c != col) found[count++] = r * size + c;
+                }
+            }
+            neighbours[cell] = Arrays.copyOf(found, count);
+        }
+    }
+
+    // Full rows up to 6x6, 5 in a row on anything bigger
+    public static int defaultWinLength(int size) {
+        return size <= MAX_FULL_LINE_SIZE ? size : GOMOKU_WIN_LENGTH;
+    }
+
+    public static WinLines forSize(int size) {
+        return forRules(size, defaultWinLength(size));
+    }
+
+    // Masks are immutable, so every board with the same rules shares one instance
+    public static WinLines forRules(int size, int winLength) {
+        if (winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("win length " + winLength + " on a " + size + "x" + size + " board");
+        }
+        return CACHE.computeIfAbsent(size * 256 + winLength, key -> new WinLines(size, winLength));
+    }
+
+    private static void setBit(long[] bits, int cell) {
+        bits[cell >>> 6] |= 1L << (cell & 63);
+    }
+
+    private static boolean testBit(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << (cell & 63))) != 0;
+    }
+
+    // True when lines are shorter than the board, so play only near existing stones
+    public boolean isSparse() {
+        return winLength < size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCells() {
+        return cells;
+    }
+
+    public int getWords() {
+        return words;
+    }
+
+    // Stones in a row needed to win
+    public int getLineLength() {
+        return winLength;
+    }
+
+    public int getLineCount() {
+        return masks.length;
+    }
+
+    public long[] getMask(int line) {
+        return masks[line];
+    }
+
+    public int[] getLinesThrough(int cell) {
+        return cellLines[cell];
+    }
+
+    public int[] getNeighbours(int cell) {
+        return neighbours[cell];
+    }
+}
@@ -0,0 +1,29 @@
+package tictactoe.logic;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Zobrist {
+
+    // Fixed seed: hashes must be identical between runs so they can be stored on disk
+    private static final long SEED = 0x7A0B815A5EEDL;
+
+    private static final ConcurrentHashMap<Integer, long[][]> CACHE = new ConcurrentHashMap<>();
+
+    // Mixed in when O is to move
+    public static final long SIDE = new SplittableRandom(SEED).nextLong();
+
+    // keys[player][cell]
+    public static long[][] forCells(int cells) {
+        return CACHE.computeIfAbsent(cells, n -> {
+            SplittableRandom random = new SplittableRandom(SEED ^ n);
+            long[][] keys = new long[2][n];
+            for (int player = 0; player < 2; player++) {
+                for (int cell = 0; cell < n; cell++) {
+                    keys[player][cell] = random.nextLong();
+                }
+            }
+            return keys;
+        });
+    }
+}